@@ -380,7 +380,7 @@ public class CobolFieldInitializer {
             case NUMERIC:
             case SIGNED_NUMERIC:
                 // Verify numeric content
-                if (!stringValue.matches("^[0-9]*$")) {
+                if (!DisplayNumeric.isDigits(stringValue)) {
                     throw new IllegalArgumentException(
                         "Field value '" + stringValue + "' contains non-numeric characters for NUMERIC field type");
                 }
@@ -390,8 +390,7 @@ public class CobolFieldInitializer {
                     throw new IllegalArgumentException(
                         "Numeric value '" + stringValue + "' exceeds field length of " + length);
                 } else {
-                    return String.format("%0" + length + "d", 
-                           Integer.parseInt(stringValue.isEmpty() ? "0" : stringValue));
+                    return repeatString("0", length - stringValue.length()) + stringValue;
                 }
                 
             case DECIMAL:
@@ -400,7 +399,7 @@ public class CobolFieldInitializer {
                 int scale = cobolField.scale();
                 
                 // Verify decimal content
-                if (!cleanValue.matches("^[0-9]*$")) {
+                if (!DisplayNumeric.isDigits(cleanValue)) {
                     throw new IllegalArgumentException(
                         "Field value '" + stringValue + "' contains invalid characters for DECIMAL field type");
                 }
@@ -426,8 +425,7 @@ public class CobolFieldInitializer {
                     return String.format("%0" + length + "." + scale + "f", doubleValue);
                 } else {
                     // No decimal point
-                    return String.format("%0" + length + "d", 
-                           Integer.parseInt(cleanValue.isEmpty() ? "0" : cleanValue));
+                    return repeatString("0", length - cleanValue.length()) + cleanValue;
                 }
                 
             default:
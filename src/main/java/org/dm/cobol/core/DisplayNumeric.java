@@ -0,0 +1,337 @@
+package org.dm.cobol.core;
+
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Byte-level validation and decoding of display-numeric fields (NUMERIC, SIGNED_NUMERIC
+ * and DECIMAL) in a single-byte, ASCII-compatible encoding.
+ * Digit runs are processed eight bytes at a time with SWAR arithmetic on {@code long}
+ * words, with a scalar loop for the remaining bytes. Signs may be a separate leading
+ * or trailing '+'/'-' or a zoned-decimal overpunch on the last byte ('{', 'A'-'I' for
+ * positive; '}', 'J'-'R' and 'p'-'y' for negative).
+ */
+public class DisplayNumeric {
+    /**
+     * Maximum number of digits that can be decoded into a long without overflow.
+     */
+    public static final int MAX_DIGITS = 18;
+
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long SIXES = 0x0606060606060606L;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+    private static final byte[] DIGIT_VALUES = new byte[256];
+    private static final boolean[] NEGATIVE_OVERPUNCH = new boolean[256];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_DIGITS; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int i = 0; i <= 9; i++) {
+            DIGIT_VALUES['0' + i] = (byte) i;
+            DIGIT_VALUES['p' + i] = (byte) i;
+            NEGATIVE_OVERPUNCH['p' + i] = true;
+        }
+        for (int i = 1; i <= 9; i++) {
+            DIGIT_VALUES['A' + i - 1] = (byte) i;
+            DIGIT_VALUES['J' + i - 1] = (byte) i;
+            NEGATIVE_OVERPUNCH['J' + i - 1] = true;
+        }
+        DIGIT_VALUES['{'] = 0;
+        DIGIT_VALUES['}'] = 0;
+        NEGATIVE_OVERPUNCH['}'] = true;
+    }
+
+    private DisplayNumeric() {
+    }
+
+    /**
+     * Check whether a field holds a valid value for its numeric type.
+     * Alphanumeric fields are always valid.
+     *
+     * @param buffer The buffer holding the field
+     * @param offset The absolute offset of the field
+     * @param length The field length
+     * @param type The COBOL type of the field
+     * @param scale The decimal scale of the field
+     * @return True if the field is valid
+     */
+    public static boolean isValid(ByteBuffer buffer, int offset, int length, CobolFieldType type, int scale) {
+        if (type == CobolFieldType.ALPHANUMERIC) {
+            return true;
+        }
+
+        int start = offset;
+        int end = offset + length;
+        boolean overpunch = false;
+        if (type != CobolFieldType.NUMERIC && length > 0) {
+            byte first = buffer.get(start);
+            byte last = buffer.get(end - 1);
+            if (first == '+' || first == '-') {
+                start++;
+            } else if (last == '+' || last == '-') {
+                end--;
+            } else if (isOverpunch(last)) {
+                overpunch = true;
+                end--;
+            }
+        }
+
+        int point = decimalPoint(buffer, start, overpunch ? end + 1 : end, type, scale);
+        if (point >= start && point < end) {
+            return (end - start > 1 || overpunch)
+                && isDigits(buffer, start, point - start)
+                && isDigits(buffer, point + 1, end - point - 1);
+        }
+        return (end > start || overpunch) && isDigits(buffer, start, end - start);
+    }
+
+    /**
+     * Decode a numeric field to its unscaled value. A DECIMAL field holding
+     * "00012.34" with scale 2 decodes to 1234.
+     *
+     * @param buffer The buffer holding the field
+     * @param offset The absolute offset of the field
+     * @param length The field length
+     * @param type The COBOL type of the field
+     * @param scale The decimal scale of the field
+     * @return The unscaled value
+     * @throws CobolParseException If the field is invalid or has more than {@link #MAX_DIGITS} digits
+     */
+    public static long decode(ByteBuffer buffer, int offset, int length, CobolFieldType type, int scale)
+            throws CobolParseException {
+        if (type == CobolFieldType.ALPHANUMERIC) {
+            throw new CobolParseException("Cannot decode an ALPHANUMERIC field as a number");
+        }
+
+        int start = offset;
+        int end = offset + length;
+        boolean negative = false;
+        int overpunchDigit = -1;
+        if (type != CobolFieldType.NUMERIC && length > 0) {
+            byte first = buffer.get(start);
+            byte last = buffer.get(end - 1);
+            if (first == '+' || first == '-') {
+                negative = first == '-';
+                start++;
+            } else if (last == '+' || last == '-') {
+                negative = last == '-';
+                end--;
+            } else if (isOverpunch(last)) {
+                negative = NEGATIVE_OVERPUNCH[last & 0xFF];
+                overpunchDigit = DIGIT_VALUES[last & 0xFF];
+                end--;
+            }
+        }
+
+        int point = decimalPoint(buffer, start, overpunchDigit >= 0 ? end + 1 : end, type, scale);
+        boolean hasPoint = point >= start && point < end;
+        int digits = end - start - (hasPoint ? 1 : 0) + (overpunchDigit >= 0 ? 1 : 0);
+        if (digits > MAX_DIGITS) {
+            throw new CobolParseException(
+                "Numeric field at [" + offset + "," + (offset + length) + "] has more than " +
+                MAX_DIGITS + " digits");
+        }
+
+        long value;
+        if (hasPoint) {
+            long integerPart = parseDigits(buffer, start, point - start);
+            long fractionPart = parseDigits(buffer, point + 1, end - point - 1);
+            value = integerPart < 0 || fractionPart < 0
+                ? -1
+                : integerPart * POWERS_OF_TEN[end - point - 1] + fractionPart;
+        } else {
+            value = parseDigits(buffer, start, end - start);
+        }
+        if (value < 0 || digits == 0) {
+            throw new CobolParseException(
+                "Field value '" + RecordView.readString(buffer, offset, length) +
+                "' contains invalid characters for " + type + " field type");
+        }
+
+        if (overpunchDigit >= 0) {
+            value = value * 10 + overpunchDigit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Check whether a byte range holds only the digits '0'-'9', eight bytes at a time.
+     *
+     * @param buffer The buffer to check
+     * @param offset The absolute offset of the range
+     * @param length The range length
+     * @return True if every byte is a digit
+     */
+    public static boolean isDigits(ByteBuffer buffer, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        for (; i + 8 <= end; i += 8) {
+            if (!isEightDigits(buffer.getLong(i))) {
+                return false;
+            }
+        }
+        return isDigitsScalar(buffer, i, end - i);
+    }
+
+    /**
+     * Scalar equivalent of {@link #isDigits(ByteBuffer, int, int)}.
+     *
+     * @param buffer The buffer to check
+     * @param offset The absolute offset of the range
+     * @param length The range length
+     * @return True if every byte is a digit
+     */
+    public static boolean isDigitsScalar(ByteBuffer buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (!isDigit(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert a run of at most {@link #MAX_DIGITS} digits, eight bytes at a time.
+     *
+     * @param buffer The buffer holding the digits
+     * @param offset The absolute offset of the digits
+     * @param length The number of digits
+     * @return The value, or -1 if the range holds a byte that is not a digit
+     */
+    public static long parseDigits(ByteBuffer buffer, int offset, int length) {
+        boolean littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+        long value = 0;
+        int i = offset;
+        int end = offset + length;
+        for (; i + 8 <= end; i += 8) {
+            long word = buffer.getLong(i);
+            if (!isEightDigits(word)) {
+                return -1;
+            }
+            // Put the first digit in the lowest byte
+            value = value * 100_000_000L + parseEightDigits(littleEndian ? word : Long.reverseBytes(word));
+        }
+
+        long tail = parseDigitsScalar(buffer, i, end - i);
+        return tail < 0 ? -1 : value * POWERS_OF_TEN[end - i] + tail;
+    }
+
+    /**
+     * Scalar equivalent of {@link #parseDigits(ByteBuffer, int, int)}.
+     *
+     * @param buffer The buffer holding the digits
+     * @param offset The absolute offset of the digits
+     * @param length The number of digits
+     * @return The value, or -1 if the range holds a byte that is not a digit
+     */
+    public static long parseDigitsScalar(ByteBuffer buffer, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            byte b = buffer.get(i);
+            if (!isDigit(b)) {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Check whether a string holds only the digits '0'-'9'.
+     *
+     * @param value The string to check
+     * @return True if every character is a digit
+     */
+    public static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the digit value of a byte, treating overpunched sign characters as their
+     * digit and any other non-digit (spaces, signs, the decimal point) as zero.
+     */
+    static int digitValue(byte b) {
+        int digit = DIGIT_VALUES[b & 0xFF];
+        return digit < 0 ? 0 : digit;
+    }
+
+    /**
+     * Check whether a numeric field carries a negative sign, either as a negative
+     * overpunch on the last byte or as a '-' anywhere in the field, so floating
+     * signs after space padding (e.g. "   -42") count too.
+     */
+    static boolean isNegative(ByteBuffer buffer, int offset, int length) {
+        if (length == 0) {
+            return false;
+        }
+        if (NEGATIVE_OVERPUNCH[buffer.get(offset + length - 1) & 0xFF]) {
+            return true;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) == '-') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * SWAR test that all eight bytes of a word are in '0'-'9': the high nibbles must
+     * be 3 and must stay 3 after adding 6, which carries 0x3A-0x3F into 0x4_.
+     */
+    private static boolean isEightDigits(long word) {
+        return (word & HIGH_NIBBLES) == ZEROS && ((word + SIXES) & HIGH_NIBBLES) == ZEROS;
+    }
+
+    /**
+     * SWAR conversion of eight digit bytes, first digit in the lowest byte, by
+     * combining neighbouring digits, then pairs, then quads.
+     */
+    private static long parseEightDigits(long word) {
+        long value = word - ZEROS;
+        value = (value * 10 + (value >>> 8)) & 0x00FF00FF00FF00FFL;
+        value = (value * 100 + (value >>> 16)) & 0x0000FFFF0000FFFFL;
+        return (value * 10000 + (value >>> 32)) & 0xFFFFFFFFL;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isOverpunch(byte b) {
+        return !isDigit(b) && DIGIT_VALUES[b & 0xFF] >= 0;
+    }
+
+    /**
+     * Locate an explicit decimal point, which DECIMAL fields carry scale digits before
+     * the end of their digits. The end excludes a separate trailing sign but includes
+     * an overpunched last digit.
+     *
+     * @param start The absolute position of the first digit
+     * @param digitsEnd The absolute position after the last digit
+     * @return The absolute position of the point, or -1 if the field has none
+     */
+    private static int decimalPoint(ByteBuffer buffer, int start, int digitsEnd, CobolFieldType type, int scale) {
+        int point = digitsEnd - scale - 1;
+        if (type != CobolFieldType.DECIMAL || scale <= 0 || point < start) {
+            return -1;
+        }
+        return buffer.get(point) == '.' ? point : -1;
+    }
+}
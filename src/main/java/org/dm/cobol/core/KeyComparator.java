@@ -0,0 +1,121 @@
+package org.dm.cobol.core;
+
+import org.dm.cobol.enums.CobolFieldType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compares fixed-length records on their raw bytes using key fields from a {@link RecordLayout}.
+ * Records are expected in a single-byte, ASCII-compatible encoding (e.g. ISO-8859-1).
+ * ALPHANUMERIC keys compare as unsigned bytes. NUMERIC, SIGNED_NUMERIC and DECIMAL keys
+ * compare by value, honouring a leading or trailing sign and zoned-decimal sign overpunch.
+ */
+public class KeyComparator {
+    private final int[] offsets;
+    private final int[] lengths;
+    private final boolean[] numeric;
+
+    /**
+     * Creates a comparator over the given key fields, most significant first.
+     *
+     * @param layout The record layout
+     * @param keyFields The key field names or dotted paths
+     * @throws IllegalArgumentException If no key is given or a key field does not exist
+     */
+    public KeyComparator(RecordLayout layout, String... keyFields) {
+        if (keyFields.length == 0) {
+            throw new IllegalArgumentException("At least one key field is required");
+        }
+
+        offsets = new int[keyFields.length];
+        lengths = new int[keyFields.length];
+        numeric = new boolean[keyFields.length];
+
+        for (int i = 0; i < keyFields.length; i++) {
+            FieldInfo info = layout.getField(keyFields[i]);
+            offsets[i] = info.getStartPos();
+            lengths[i] = info.getCobolField().length();
+            numeric[i] = info.getCobolField().type() != CobolFieldType.ALPHANUMERIC;
+        }
+    }
+
+    /**
+     * Creates a comparator over a single key stored at an arbitrary offset,
+     * such as a key copied out of its record into an index entry.
+     *
+     * @param type The COBOL type of the key
+     * @param offset The offset of the key in each compared buffer region
+     * @param length The key length
+     */
+    public KeyComparator(CobolFieldType type, int offset, int length) {
+        offsets = new int[] {offset};
+        lengths = new int[] {length};
+        numeric = new boolean[] {type != CobolFieldType.ALPHANUMERIC};
+    }
+
+    /**
+     * Compare two records by their key fields.
+     *
+     * @param a The buffer holding the first record
+     * @param aPos The position of the first record in its buffer
+     * @param b The buffer holding the second record
+     * @param bPos The position of the second record in its buffer
+     * @return A negative number, zero or a positive number as the first record sorts before, with or after the second
+     */
+    public int compare(ByteBuffer a, int aPos, ByteBuffer b, int bPos) {
+        for (int i = 0; i < offsets.length; i++) {
+            int result = numeric[i]
+                ? compareNumeric(a, aPos + offsets[i], b, bPos + offsets[i], lengths[i])
+                : compareBytes(a, aPos + offsets[i], b, bPos + offsets[i], lengths[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compare two byte ranges as unsigned bytes.
+     */
+    private static int compareBytes(ByteBuffer a, int aOff, ByteBuffer b, int bOff, int length) {
+        for (int i = 0; i < length; i++) {
+            int result = (a.get(aOff + i) & 0xFF) - (b.get(bOff + i) & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compare two display-numeric ranges of equal length by signed value.
+     * Both ranges share a layout, so digits and any decimal point line up by position.
+     */
+    private static int compareNumeric(ByteBuffer a, int aOff, ByteBuffer b, int bOff, int length) {
+        boolean aNegative = DisplayNumeric.isNegative(a, aOff, length);
+        boolean bNegative = DisplayNumeric.isNegative(b, bOff, length);
+
+        int magnitude = 0;
+        for (int i = 0; i < length && magnitude == 0; i++) {
+            magnitude = DisplayNumeric.digitValue(a.get(aOff + i)) - DisplayNumeric.digitValue(b.get(bOff + i));
+        }
+
+        if (aNegative == bNegative) {
+            return aNegative ? -magnitude : magnitude;
+        }
+        if (magnitude == 0 && isZero(a, aOff, length)) {
+            // -0 and +0 are the same value
+            return 0;
+        }
+        return aNegative ? -1 : 1;
+    }
+
+    private static boolean isZero(ByteBuffer buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (DisplayNumeric.digitValue(buffer.get(offset + i)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,228 @@
+package org.dm.cobol.core;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.annotation.CobolNestedObject;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed field layout of a COBOL-annotated class.
+ * Nested objects are flattened in declaration order, so every field carries its
+ * absolute position in the record. Nested fields are addressed by their dotted
+ * path (e.g. "address.city") or by their simple name when that is unambiguous.
+ * Records can be decoded straight from bytes in a single-byte, ASCII-compatible
+ * encoding, where each character of a field occupies exactly one byte.
+ */
+public class RecordLayout {
+    private static final Map<Class<?>, RecordLayout> CACHE = new ConcurrentHashMap<>();
+
+    private final Class<?> recordClass;
+    private final List<FieldInfo> fields = new ArrayList<>();
+    private final List<String> paths = new ArrayList<>();
+    private final List<Field[]> owners = new ArrayList<>();
+    private final int recordLength;
+
+    private RecordLayout(Class<?> recordClass) {
+        this.recordClass = recordClass;
+        this.recordLength = collectFields(recordClass, "", new Field[0], 0);
+    }
+
+    /**
+     * Gets the layout for a class, computing it on first use.
+     *
+     * @param recordClass The COBOL-annotated class
+     * @return The layout of the class
+     */
+    public static RecordLayout of(Class<?> recordClass) {
+        return CACHE.computeIfAbsent(recordClass, RecordLayout::new);
+    }
+
+    /**
+     * Walk a class and its nested objects, recording absolute field positions.
+     *
+     * @param clazz The class to walk
+     * @param prefix The dotted path prefix of the class
+     * @param owner The chain of nested object fields leading to the class
+     * @param startPos The starting position of the class in the record
+     * @return The total length of the class
+     */
+    private int collectFields(Class<?> clazz, String prefix, Field[] owner, int startPos) {
+        int currentPos = startPos;
+
+        for (Field field : clazz.getDeclaredFields()) {
+            if (field.isAnnotationPresent(CobolField.class)) {
+                field.setAccessible(true);
+                CobolField cobolField = field.getAnnotation(CobolField.class);
+                FieldInfo info = new FieldInfo(field, cobolField);
+
+                info.setStartPos(currentPos);
+                info.setEndPos(currentPos + cobolField.length());
+                currentPos += cobolField.length();
+
+                fields.add(info);
+                paths.add(prefix + field.getName());
+                owners.add(owner);
+            }
+            else if (field.isAnnotationPresent(CobolNestedObject.class)) {
+                field.setAccessible(true);
+                Field[] nestedOwner = Arrays.copyOf(owner, owner.length + 1);
+                nestedOwner[owner.length] = field;
+                currentPos += collectFields(field.getType(), prefix + field.getName() + ".", nestedOwner, currentPos);
+            }
+        }
+
+        return currentPos - startPos;
+    }
+
+    /**
+     * Gets the class this layout was computed for.
+     *
+     * @return The record class
+     */
+    public Class<?> getRecordClass() {
+        return recordClass;
+    }
+
+    /**
+     * Gets the total length of a record in characters.
+     *
+     * @return The record length
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Gets all fields in record order, including fields of nested objects.
+     *
+     * @return An unmodifiable list of field information
+     */
+    public List<FieldInfo> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Gets the dotted paths of all fields, in the same order as {@link #getFields()}.
+     *
+     * @return An unmodifiable list of field paths
+     */
+    public List<String> getFieldNames() {
+        return Collections.unmodifiableList(paths);
+    }
+
+    /**
+     * Look up a field by dotted path or by simple name.
+     *
+     * @param name The dotted path or simple field name
+     * @return The field information
+     * @throws IllegalArgumentException If no field or more than one field matches
+     */
+    public FieldInfo getField(String name) {
+        int index = paths.indexOf(name);
+        if (index >= 0) {
+            return fields.get(index);
+        }
+
+        FieldInfo match = null;
+        for (FieldInfo info : fields) {
+            if (info.getField().getName().equals(name)) {
+                if (match != null) {
+                    throw new IllegalArgumentException(
+                        "Field name '" + name + "' is ambiguous in " + recordClass.getName() + ", use its dotted path");
+                }
+                match = info;
+            }
+        }
+
+        if (match == null) {
+            throw new IllegalArgumentException(
+                "No COBOL field '" + name + "' in " + recordClass.getName());
+        }
+        return match;
+    }
+
+    /**
+     * Create an empty instance of the layout's class.
+     *
+     * @return A new record object
+     * @throws CobolParseException If the class cannot be instantiated
+     */
+    public Object newRecord() throws CobolParseException {
+        return instantiate(recordClass);
+    }
+
+    /**
+     * Decode a record from raw bytes into an object of the layout's class.
+     * Nested objects are created when they are null.
+     *
+     * @param buffer The buffer holding the record
+     * @param position The position of the record in the buffer
+     * @param target The object to populate
+     * @throws IllegalAccessException If a field cannot be accessed
+     * @throws CobolParseException If the buffer is too short or a nested object cannot be created
+     */
+    public void decode(ByteBuffer buffer, int position, Object target)
+            throws IllegalAccessException, CobolParseException {
+        if (position < 0 || position + recordLength > buffer.limit()) {
+            throw new CobolParseException(
+                "Record at position " + position + " needs " + recordLength +
+                " bytes but the buffer limit is " + buffer.limit());
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            FieldInfo info = fields.get(i);
+            Object owner = resolveOwner(target, owners.get(i));
+            info.getField().set(owner, RecordView.readString(buffer, position + info.getStartPos(),
+                info.getCobolField().length()));
+        }
+    }
+
+    /**
+     * Walk a chain of nested object fields, creating nested objects that are null.
+     *
+     * @param target The top-level object
+     * @param chain The nested object fields to follow
+     * @return The object that declares the field at the end of the chain
+     */
+    private static Object resolveOwner(Object target, Field[] chain)
+            throws IllegalAccessException, CobolParseException {
+        Object current = target;
+        for (Field field : chain) {
+            Object nestedObj = field.get(current);
+            if (nestedObj == null) {
+                nestedObj = instantiate(field.getType());
+                field.set(current, nestedObj);
+            }
+            current = nestedObj;
+        }
+        return current;
+    }
+
+    /**
+     * Create an instance of a record or nested object class through its no-arg constructor.
+     *
+     * @param clazz The class to instantiate
+     * @return The new instance
+     * @throws CobolParseException If the class cannot be instantiated
+     */
+    private static Object instantiate(Class<?> clazz) throws CobolParseException {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (InstantiationException | NoSuchMethodException | IllegalAccessException |
+                 InvocationTargetException e) {
+            throw new CobolParseException("Failed to instantiate " + clazz.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.dm.cobol.core;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Flyweight view of a single record held in a byte buffer.
+ * Fields are read on demand without decoding the whole record, and one view
+ * can be re-pointed at any number of records with {@link #wrap(ByteBuffer, int)}.
+ */
+public class RecordView {
+    private final RecordLayout layout;
+    private ByteBuffer buffer;
+    private int position;
+
+    /**
+     * Creates an unpositioned view for records of the given layout.
+     *
+     * @param layout The record layout
+     */
+    public RecordView(RecordLayout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Point this view at a record.
+     *
+     * @param buffer The buffer holding the record
+     * @param position The position of the record in the buffer
+     * @return This view
+     */
+    public RecordView wrap(ByteBuffer buffer, int position) {
+        this.buffer = buffer;
+        this.position = position;
+        return this;
+    }
+
+    /**
+     * Gets the record layout.
+     *
+     * @return The layout
+     */
+    public RecordLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the buffer holding the current record.
+     *
+     * @return The buffer
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Gets the position of the current record in its buffer.
+     *
+     * @return The position
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Read a field of the current record by name.
+     *
+     * @param fieldName The field name or dotted path
+     * @return The raw field value
+     * @throws IllegalArgumentException If the field does not exist
+     */
+    public String getString(String fieldName) {
+        return getString(layout.getField(fieldName));
+    }
+
+    /**
+     * Read a field of the current record.
+     *
+     * @param info The field information from the layout
+     * @return The raw field value
+     */
+    public String getString(FieldInfo info) {
+        return readString(buffer, position + info.getStartPos(), info.getCobolField().length());
+    }
+
+    /**
+     * Decode a numeric field of the current record by name to its unscaled value.
+     *
+     * @param fieldName The field name or dotted path
+     * @return The unscaled value
+     * @throws IllegalArgumentException If the field does not exist
+     * @throws CobolParseException If the field is not a valid number
+     * @see DisplayNumeric#decode
+     */
+    public long getLong(String fieldName) throws CobolParseException {
+        return getLong(layout.getField(fieldName));
+    }
+
+    /**
+     * Decode a numeric field of the current record to its unscaled value.
+     *
+     * @param info The field information from the layout
+     * @return The unscaled value
+     * @throws CobolParseException If the field is not a valid number
+     */
+    public long getLong(FieldInfo info) throws CobolParseException {
+        CobolField cobolField = info.getCobolField();
+        return DisplayNumeric.decode(buffer, position + info.getStartPos(), cobolField.length(),
+            cobolField.type(), cobolField.scale());
+    }
+
+    /**
+     * Check whether a field of the current record holds a valid value for its type.
+     *
+     * @param info The field information from the layout
+     * @return True if the field is valid
+     */
+    public boolean isValid(FieldInfo info) {
+        CobolField cobolField = info.getCobolField();
+        return DisplayNumeric.isValid(buffer, position + info.getStartPos(), cobolField.length(),
+            cobolField.type(), cobolField.scale());
+    }
+
+    /**
+     * Decode the whole current record into an object.
+     *
+     * @param target The object to populate
+     * @throws IllegalAccessException If a field cannot be accessed
+     * @throws CobolParseException If the record cannot be decoded
+     */
+    public void decode(Object target) throws IllegalAccessException, CobolParseException {
+        layout.decode(buffer, position, target);
+    }
+
+    /**
+     * Read a single-byte encoded string from a buffer without moving its position.
+     *
+     * @param buffer The buffer to read
+     * @param offset The absolute offset of the first byte
+     * @param length The number of bytes
+     * @return The decoded string
+     */
+    static String readString(ByteBuffer buffer, int offset, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.ISO_8859_1);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,325 @@
+package org.dm.cobol.index;
+
+import org.dm.cobol.core.DisplayNumeric;
+import org.dm.cobol.core.KeyComparator;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.core.RecordView;
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random access to a record file through a key index written by {@link RecordIndexBuilder}.
+ * The index is memory-mapped and searched with a binary search, so a lookup costs
+ * O(log n) probes plus a single positional read of the record. Instances are safe
+ * for concurrent lookups.
+ *
+ * @param <T> The record class
+ */
+public class RecordIndex<T> implements Closeable {
+    static final int MAGIC = 0x43494458;
+    static final int VERSION = 3;
+    static final int HEADER_BYTES = 52;
+    static final int OFFSET_BYTES = 8;
+
+    private static final int SEGMENT_BYTES = 1 << 30;
+
+    private final Class<T> recordClass;
+    private final RecordLayout layout;
+    private final FileChannel data;
+    private final KeyComparator comparator;
+    private final boolean numericKey;
+    private final boolean decimalKey;
+    private final boolean trailingSign;
+    private final int keyLength;
+    private final int keyOffset;
+    private final int keyScale;
+    private final int entryLength;
+    private final int recordLength;
+    private final long entryCount;
+    private final long entriesPerSegment;
+    private final MappedByteBuffer[] segments;
+
+    private RecordIndex(Class<T> recordClass, FileChannel data, long dataLastModified, FileChannel index)
+            throws IOException {
+        this.recordClass = recordClass;
+        this.layout = RecordLayout.of(recordClass);
+        this.data = data;
+
+        ByteBuffer header = index.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IOException("Not a record index or unsupported index version");
+        }
+        CobolFieldType keyType = CobolFieldType.values()[header.getInt()];
+        this.keyOffset = header.getInt();
+        this.keyLength = header.getInt();
+        this.keyScale = header.getInt();
+        this.recordLength = header.getInt();
+        long dataSize = header.getLong();
+        long builtLastModified = header.getLong();
+        this.entryCount = header.getLong();
+
+        if (keyOffset + keyLength > layout.getRecordLength()) {
+            throw new IOException("Index key does not fit the layout of " + recordClass.getName());
+        }
+        if (dataSize != data.size()) {
+            throw new IOException("Index is stale: it was built for a data file of " + dataSize +
+                " bytes but the file has " + data.size() + " bytes");
+        }
+        if (builtLastModified != dataLastModified) {
+            throw new IOException("Index is stale: the data file was modified after the index was built");
+        }
+
+        this.numericKey = keyType != CobolFieldType.ALPHANUMERIC;
+        this.decimalKey = keyType == CobolFieldType.DECIMAL && keyScale > 0 && keyLength - keyScale - 1 > 0;
+        this.comparator = new KeyComparator(keyType, 0, keyLength);
+        this.entryLength = keyLength + OFFSET_BYTES;
+        this.entriesPerSegment = Math.max(1, SEGMENT_BYTES / entryLength);
+
+        int segmentCount = (int) ((entryCount + entriesPerSegment - 1) / entriesPerSegment);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long first = i * entriesPerSegment;
+            long count = Math.min(entriesPerSegment, entryCount - first);
+            segments[i] = index.map(FileChannel.MapMode.READ_ONLY,
+                HEADER_BYTES + first * entryLength, count * entryLength);
+        }
+
+        // Keys with a trailing separate sign carry it in their last byte
+        this.trailingSign = numericKey && entryCount > 0 && isSign(segments[0].get(keyLength - 1));
+    }
+
+    /**
+     * Open an index over a data file.
+     *
+     * @param recordClass The COBOL-annotated record class
+     * @param dataFile The indexed record file
+     * @param indexFile The index file
+     * @param <T> The record class
+     * @return The opened index
+     * @throws IOException If a file cannot be read, or the index is invalid or out of date
+     */
+    public static <T> RecordIndex<T> open(Class<T> recordClass, Path dataFile, Path indexFile) throws IOException {
+        FileChannel data = FileChannel.open(dataFile, StandardOpenOption.READ);
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            // Mappings stay valid after the index channel is closed
+            return new RecordIndex<>(recordClass, data, Files.getLastModifiedTime(dataFile).toMillis(), index);
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of indexed records.
+     *
+     * @return The entry count
+     */
+    public long size() {
+        return entryCount;
+    }
+
+    /**
+     * Find the byte offset of the first record with the given key.
+     * Alphanumeric keys are padded with trailing spaces and numeric keys with
+     * leading zeros to the key field length. Numeric keys may carry a leading or
+     * trailing sign but must otherwise be digits; the sign is moved to wherever the
+     * stored keys keep theirs. DECIMAL keys are aligned on the field's decimal
+     * point, so "12.5" finds "0012.50" and "-3" finds "003.00-".
+     *
+     * @param key The key value
+     * @return The record offset in the data file, or -1 if no record has the key
+     * @throws IllegalArgumentException If the key is not valid for or does not fit the key field
+     */
+    public long findOffset(String key) {
+        long entry = findEntry(key);
+        return entry < 0 ? -1 : segment(entry).getLong(entryPosition(entry) + keyLength);
+    }
+
+    /**
+     * Binary search for the first index entry with the given key.
+     *
+     * @return The entry number, or -1 if no entry has the key
+     */
+    private long findEntry(String key) {
+        ByteBuffer probe = encodeKey(key);
+
+        long low = 0;
+        long high = entryCount;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (compareEntry(mid, probe) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low < entryCount && compareEntry(low, probe) == 0 ? low : -1;
+    }
+
+    /**
+     * Find the first record with the given key as a flyweight view over its bytes.
+     *
+     * @param key The key value
+     * @return A view of the record, or null if no record has the key
+     * @throws IOException If the data file cannot be read, or the record no longer has the indexed key
+     */
+    public RecordView findView(String key) throws IOException {
+        long entry = findEntry(key);
+        if (entry < 0) {
+            return null;
+        }
+        ByteBuffer segment = segment(entry);
+        int entryPosition = entryPosition(entry);
+        long offset = segment.getLong(entryPosition + keyLength);
+
+        ByteBuffer record = ByteBuffer.allocate(recordLength);
+        while (record.hasRemaining()) {
+            if (data.read(record, offset + record.position()) < 0) {
+                throw new IOException("Unexpected end of data file at offset " + (offset + record.position()));
+            }
+        }
+
+        // Catch data rewritten in place since the index was opened
+        for (int i = 0; i < keyLength; i++) {
+            if (record.get(keyOffset + i) != segment.get(entryPosition + i)) {
+                throw new IOException(
+                    "Index is stale: the record at offset " + offset + " no longer has its indexed key");
+            }
+        }
+        return new RecordView(layout).wrap(record, 0);
+    }
+
+    /**
+     * Find and decode the first record with the given key.
+     *
+     * @param key The key value
+     * @return The decoded record, or null if no record has the key
+     * @throws IOException If the data file cannot be read, or the record no longer has the indexed key
+     * @throws IllegalAccessException If a field cannot be accessed
+     * @throws CobolParseException If the record cannot be decoded
+     */
+    public T find(String key) throws IOException, IllegalAccessException, CobolParseException {
+        RecordView view = findView(key);
+        if (view == null) {
+            return null;
+        }
+
+        T record = recordClass.cast(layout.newRecord());
+        view.decode(record);
+        return record;
+    }
+
+    /**
+     * Closes the data file. The index mapping is released once unreachable.
+     *
+     * @throws IOException If the data file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        data.close();
+    }
+
+    private ByteBuffer encodeKey(String key) {
+        StringBuilder padded = new StringBuilder(keyLength);
+        if (!numericKey) {
+            if (key.length() > keyLength) {
+                throw new IllegalArgumentException(
+                    "Key '" + key + "' exceeds key field length of " + keyLength);
+            }
+            padded.append(key);
+            for (int i = key.length(); i < keyLength; i++) {
+                padded.append(' ');
+            }
+            return ByteBuffer.wrap(padded.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+
+        // Accept the sign on either end of the probe
+        String sign = "";
+        String unsigned = key;
+        if (!key.isEmpty() && isSign(key.charAt(0))) {
+            sign = key.substring(0, 1);
+            unsigned = key.substring(1);
+        } else if (!key.isEmpty() && isSign(key.charAt(key.length() - 1))) {
+            sign = key.substring(key.length() - 1);
+            unsigned = key.substring(0, key.length() - 1);
+        }
+
+        // Put the sign where the stored keys keep it, so the digits line up by position
+        int width = keyLength - (trailingSign ? 1 : sign.length());
+        if (!trailingSign) {
+            padded.append(sign);
+        }
+        if (decimalKey) {
+            appendDecimal(padded, key, unsigned, width);
+        } else {
+            if (unsigned.isEmpty() || !DisplayNumeric.isDigits(unsigned)) {
+                throw new IllegalArgumentException("Key '" + key + "' is not a valid numeric key");
+            }
+            if (unsigned.length() > width) {
+                throw new IllegalArgumentException(
+                    "Key '" + key + "' exceeds key field length of " + keyLength);
+            }
+            for (int i = unsigned.length(); i < width; i++) {
+                padded.append('0');
+            }
+            padded.append(unsigned);
+        }
+        if (trailingSign) {
+            padded.append(sign.equals("-") ? '-' : '+');
+        }
+        return ByteBuffer.wrap(padded.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Append an unsigned DECIMAL probe the way {@link org.dm.cobol.core.CobolFieldInitializer#write(Object)}
+     * lays out the field: zero-padded integer part, the point, then the fraction
+     * padded to the scale, so digits line up by position with the stored keys.
+     */
+    private void appendDecimal(StringBuilder padded, String key, String unsigned, int width) {
+        int point = unsigned.indexOf('.');
+        String integerPart = point < 0 ? unsigned : unsigned.substring(0, point);
+        String fractionPart = point < 0 ? "" : unsigned.substring(point + 1);
+        int integerWidth = width - keyScale - 1;
+
+        if (!DisplayNumeric.isDigits(integerPart) || !DisplayNumeric.isDigits(fractionPart)
+                || integerPart.length() > integerWidth || fractionPart.length() > keyScale) {
+            throw new IllegalArgumentException(
+                "Key '" + key + "' does not fit DECIMAL key field of length " + keyLength + " with scale " + keyScale);
+        }
+
+        for (int i = integerPart.length(); i < integerWidth; i++) {
+            padded.append('0');
+        }
+        padded.append(integerPart).append('.').append(fractionPart);
+        for (int i = fractionPart.length(); i < keyScale; i++) {
+            padded.append('0');
+        }
+    }
+
+    private static boolean isSign(int c) {
+        return c == '-' || c == '+';
+    }
+
+    private int compareEntry(long entry, ByteBuffer probe) {
+        return comparator.compare(segment(entry), entryPosition(entry), probe, 0);
+    }
+
+    private MappedByteBuffer segment(long entry) {
+        return segments[(int) (entry / entriesPerSegment)];
+    }
+
+    private int entryPosition(long entry) {
+        return (int) (entry % entriesPerSegment) * entryLength;
+    }
+}
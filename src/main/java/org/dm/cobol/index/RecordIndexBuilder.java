@@ -0,0 +1,188 @@
+package org.dm.cobol.index;
+
+import org.dm.cobol.core.FieldInfo;
+import org.dm.cobol.core.KeyComparator;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.exception.CobolParseException;
+import org.dm.cobol.sort.RecordSorter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Builds a persistent, sorted key index over a file of fixed-length COBOL records.
+ * The data file is scanned once; each record contributes an entry holding its raw
+ * key bytes and its byte offset. Entries are sorted with {@link RecordSorter}, so
+ * building an index for a large file needs only bounded memory.
+ *
+ * @see RecordIndex
+ */
+public class RecordIndexBuilder {
+    private static final int READ_BUFFER_BYTES = 1024 * 1024;
+
+    private final RecordLayout layout;
+    private final FieldInfo keyField;
+    private int recordLength;
+    private Path tempDirectory;
+
+    /**
+     * Creates a builder for an index on one key field.
+     *
+     * @param recordClass The COBOL-annotated record class
+     * @param keyField The key field name or dotted path
+     * @throws IllegalArgumentException If the key field does not exist
+     */
+    public RecordIndexBuilder(Class<?> recordClass, String keyField) {
+        this.layout = RecordLayout.of(recordClass);
+        this.keyField = layout.getField(keyField);
+        this.recordLength = layout.getRecordLength();
+    }
+
+    /**
+     * Sets the length of a record slot in the data file. Defaults to the layout length;
+     * use a larger value when records are followed by filler or a line terminator.
+     *
+     * @param recordLength The record slot length in bytes
+     * @throws IllegalArgumentException If the length is not positive or shorter than the record layout
+     */
+    public void setRecordLength(int recordLength) {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be positive");
+        }
+        if (recordLength < layout.getRecordLength()) {
+            throw new IllegalArgumentException(
+                "Record length " + recordLength + " is shorter than the layout length " + layout.getRecordLength());
+        }
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * Sets the directory for temporary files. Defaults to the system temporary directory.
+     *
+     * @param tempDirectory The temporary directory
+     */
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Scan a data file and write its key index.
+     *
+     * @param dataFile The record file to index
+     * @param indexFile The index file to write
+     * @throws IOException If a file cannot be read or written
+     * @throws CobolParseException If the data file is not a whole number of records
+     */
+    public void build(Path dataFile, Path indexFile) throws IOException, CobolParseException {
+        int keyOffset = keyField.getStartPos();
+        int keyLength = keyField.getCobolField().length();
+        int entryLength = keyLength + RecordIndex.OFFSET_BYTES;
+
+        Path entries = createTempFile();
+        Path sorted = createTempFile();
+        try {
+            // Taken before the scan, so a write during the scan leaves the index stale
+            long dataLastModified = Files.getLastModifiedTime(dataFile).toMillis();
+            long dataSize = writeEntries(dataFile, entries, keyOffset, keyLength);
+            long entryCount = dataSize / recordLength;
+
+            RecordSorter sorter = new RecordSorter(
+                new KeyComparator(keyField.getCobolField().type(), 0, keyLength), entryLength);
+            sorter.setTempDirectory(tempDirectory);
+            sorter.sort(entries, sorted);
+
+            ByteBuffer header = ByteBuffer.allocate(RecordIndex.HEADER_BYTES);
+            header.putInt(RecordIndex.MAGIC);
+            header.putInt(RecordIndex.VERSION);
+            header.putInt(keyField.getCobolField().type().ordinal());
+            header.putInt(keyOffset);
+            header.putInt(keyLength);
+            header.putInt(keyField.getCobolField().scale());
+            header.putInt(recordLength);
+            header.putLong(dataSize);
+            header.putLong(dataLastModified);
+            header.putLong(entryCount);
+            header.flip();
+
+            try (FileChannel out = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 FileChannel in = FileChannel.open(sorted, StandardOpenOption.READ)) {
+                while (header.hasRemaining()) {
+                    out.write(header);
+                }
+                long size = in.size();
+                long copied = 0;
+                while (copied < size) {
+                    copied += in.transferTo(copied, size - copied, out);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(entries);
+            Files.deleteIfExists(sorted);
+        }
+    }
+
+    /**
+     * Scan the data file and write one unsorted index entry per record.
+     *
+     * @return The size of the data file
+     */
+    private long writeEntries(Path dataFile, Path entries, int keyOffset, int keyLength)
+            throws IOException, CobolParseException {
+        try (FileChannel in = FileChannel.open(dataFile, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(entries, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            if (size % recordLength != 0) {
+                throw new CobolParseException(
+                    "File size " + size + " of " + dataFile + " is not a multiple of record length " + recordLength);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(Math.max(1, READ_BUFFER_BYTES / recordLength) * recordLength);
+            ByteBuffer key = buffer.duplicate();
+            ByteBuffer outBuffer = ByteBuffer.allocate(
+                Math.max(1, READ_BUFFER_BYTES / (keyLength + RecordIndex.OFFSET_BYTES))
+                    * (keyLength + RecordIndex.OFFSET_BYTES));
+            long recordOffset = 0;
+
+            while (recordOffset < size) {
+                buffer.clear();
+                while (buffer.hasRemaining() && in.read(buffer) >= 0) {
+                    // Keep reading until the buffer is full or the file ends
+                }
+                buffer.flip();
+
+                for (int pos = 0; pos < buffer.limit(); pos += recordLength) {
+                    if (outBuffer.remaining() < keyLength + RecordIndex.OFFSET_BYTES) {
+                        flush(out, outBuffer);
+                    }
+                    key.clear();
+                    key.position(pos + keyOffset);
+                    key.limit(pos + keyOffset + keyLength);
+                    outBuffer.put(key);
+                    outBuffer.putLong(recordOffset);
+                    recordOffset += recordLength;
+                }
+            }
+            flush(out, outBuffer);
+            return size;
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer outBuffer) throws IOException {
+        outBuffer.flip();
+        while (outBuffer.hasRemaining()) {
+            out.write(outBuffer);
+        }
+        outBuffer.clear();
+    }
+
+    private Path createTempFile() throws IOException {
+        return tempDirectory != null
+            ? Files.createTempFile(tempDirectory, "cobol-index-", ".tmp")
+            : Files.createTempFile("cobol-index-", ".tmp");
+    }
+}
@@ -0,0 +1,112 @@
+package org.dm.cobol.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Base class for readers that frame records out of a large reusable buffer
+ * filled from a channel. Unread bytes are compacted to the front of the buffer
+ * before each refill, and the buffer grows only if a single record outgrows it.
+ */
+abstract class ChannelRecordReader implements RecordReader {
+    static final int DEFAULT_BUFFER_BYTES = 1024 * 1024;
+
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer;
+    private boolean endOfInput;
+
+    /**
+     * Offset of the first unconsumed byte in the buffer.
+     */
+    int readPos;
+
+    private int recordPos;
+    private int recordLength;
+
+    ChannelRecordReader(ReadableByteChannel channel, int bufferBytes) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferBytes);
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Make sure at least the given number of unconsumed bytes are buffered.
+     * Positions into the buffer from before the call are invalidated.
+     *
+     * @param needed The number of bytes needed from the read position
+     * @return True if the bytes are available, false if the input ended first
+     * @throws IOException If the channel cannot be read
+     */
+    boolean fill(int needed) throws IOException {
+        if (available() >= needed) {
+            return true;
+        }
+        if (endOfInput) {
+            return false;
+        }
+
+        buffer.position(readPos);
+        buffer.compact();
+        readPos = 0;
+        if (buffer.capacity() < needed) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(needed, buffer.capacity() * 2));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        // Each read fills as much of the buffer as the channel can supply,
+        // so many records are framed per refill
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) < 0) {
+                endOfInput = true;
+                break;
+            }
+        }
+        buffer.flip();
+        return available() >= needed;
+    }
+
+    /**
+     * Gets the number of buffered bytes not yet consumed.
+     *
+     * @return The number of available bytes
+     */
+    int available() {
+        return buffer.limit() - readPos;
+    }
+
+    /**
+     * Frame the current record and consume it.
+     *
+     * @param position The position of the record in the buffer
+     * @param length The record length
+     * @param consumed The number of bytes to consume, including any framing
+     */
+    void setRecord(int position, int length, int consumed) {
+        this.recordPos = position;
+        this.recordLength = length;
+        this.readPos += consumed;
+    }
+
+    @Override
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public int getPosition() {
+        return recordPos;
+    }
+
+    @Override
+    public int getLength() {
+        return recordLength;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,98 @@
+package org.dm.cobol.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Streaming reader for delimiter-terminated records, such as newline-delimited text
+ * extracts. Records are framed in place without creating a String per line, and the
+ * delimiter is searched for eight bytes at a time. With the default newline delimiter
+ * a carriage return before it is dropped too, so CRLF files read the same as LF files.
+ * A final record without a trailing delimiter is still returned.
+ */
+public class DelimitedRecordReader extends ChannelRecordReader {
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final byte delimiter;
+    private final long delimiterPattern;
+
+    /**
+     * Creates a newline-delimited reader over a file, with readahead.
+     *
+     * @param file The record file
+     * @throws IOException If the file cannot be opened
+     */
+    public DelimitedRecordReader(Path file) throws IOException {
+        this(ReadaheadChannel.open(file), (byte) '\n', DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Creates a reader over a channel.
+     *
+     * @param channel The channel to read
+     * @param delimiter The byte terminating each record
+     * @param bufferBytes The initial read buffer size in bytes
+     */
+    public DelimitedRecordReader(ReadableByteChannel channel, byte delimiter, int bufferBytes) {
+        super(channel, Math.max(1, bufferBytes));
+        this.delimiter = delimiter;
+        this.delimiterPattern = (delimiter & 0xFFL) * ONES;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        int scanned = 0;
+        while (true) {
+            int end = indexOfDelimiter(getBuffer(), readPos + scanned, readPos + available());
+            if (end >= 0) {
+                frame(readPos, end - readPos, end - readPos + 1);
+                return true;
+            }
+
+            scanned = available();
+            if (!fill(scanned + 1)) {
+                if (available() == 0) {
+                    return false;
+                }
+                frame(readPos, available(), available());
+                return true;
+            }
+        }
+    }
+
+    private void frame(int position, int length, int consumed) {
+        if (delimiter == '\n' && length > 0 && getBuffer().get(position + length - 1) == '\r') {
+            length--;
+        }
+        setRecord(position, length, consumed);
+    }
+
+    /**
+     * Find the delimiter with a SWAR zero-byte search over long words.
+     *
+     * @return The absolute position of the delimiter, or -1 if the range has none
+     */
+    private int indexOfDelimiter(ByteBuffer buffer, int from, int to) {
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        int i = from;
+        for (; i + 8 <= to; i += 8) {
+            long word = buffer.getLong(i);
+            // Put the first byte lowest, so only bytes after a match can be false positives
+            long x = (bigEndian ? Long.reverseBytes(word) : word) ^ delimiterPattern;
+            long found = (x - ONES) & ~x & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == delimiter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
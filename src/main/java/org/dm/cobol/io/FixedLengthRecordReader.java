@@ -0,0 +1,66 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.exception.CobolParseException;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Streaming reader for files of fixed-length records.
+ */
+public class FixedLengthRecordReader extends ChannelRecordReader {
+    private final int recordLength;
+
+    /**
+     * Creates a reader over a file, with readahead.
+     *
+     * @param file The record file
+     * @param recordLength The record slot length in bytes
+     * @throws IOException If the file cannot be opened
+     */
+    public FixedLengthRecordReader(Path file, int recordLength) throws IOException {
+        this(open(file, recordLength), recordLength, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Creates a reader over a channel.
+     *
+     * @param channel The channel to read
+     * @param recordLength The record slot length in bytes
+     * @param bufferBytes The read buffer size in bytes
+     */
+    public FixedLengthRecordReader(ReadableByteChannel channel, int recordLength, int bufferBytes) {
+        super(channel, Math.max(checkRecordLength(recordLength), bufferBytes));
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * Validate the record length before opening the file, so a bad length does not
+     * leak the file handle and the readahead thread.
+     */
+    private static ReadaheadChannel open(Path file, int recordLength) throws IOException {
+        checkRecordLength(recordLength);
+        return ReadaheadChannel.open(file);
+    }
+
+    private static int checkRecordLength(int recordLength) {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be positive");
+        }
+        return recordLength;
+    }
+
+    @Override
+    public boolean next() throws IOException, CobolParseException {
+        if (!fill(recordLength)) {
+            if (available() > 0) {
+                throw new CobolParseException(
+                    "Truncated record: " + available() + " trailing bytes for record length " + recordLength);
+            }
+            return false;
+        }
+        setRecord(readPos, recordLength, recordLength);
+        return true;
+    }
+}
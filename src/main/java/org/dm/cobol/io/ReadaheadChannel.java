@@ -0,0 +1,171 @@
+package org.dm.cobol.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Channel that reads its source ahead on a background thread, so file I/O overlaps
+ * with record parsing. A fixed pool of blocks is recycled between the background
+ * thread and the consumer, which keeps memory use bounded.
+ */
+public class ReadaheadChannel implements ReadableByteChannel {
+    private static final int DEFAULT_BLOCK_BYTES = 1024 * 1024;
+    private static final int DEFAULT_BLOCKS = 4;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final ReadableByteChannel source;
+    private final BlockingQueue<ByteBuffer> filled;
+    private final BlockingQueue<ByteBuffer> free;
+    private final Thread thread;
+    private volatile IOException failure;
+    private volatile boolean closed;
+    private ByteBuffer current;
+    private boolean ended;
+
+    /**
+     * Creates a readahead channel over a source channel and starts reading.
+     *
+     * @param source The channel to read ahead
+     * @param blockBytes The size of each readahead block, at least 1
+     * @param blocks The number of blocks, at least 2
+     * @throws IllegalArgumentException If the block size or count is too small
+     */
+    public ReadaheadChannel(ReadableByteChannel source, int blockBytes, int blocks) {
+        if (blockBytes <= 0) {
+            throw new IllegalArgumentException("Readahead block size must be positive");
+        }
+        if (blocks < 2) {
+            throw new IllegalArgumentException("Readahead needs at least 2 blocks");
+        }
+        this.source = source;
+        this.filled = new ArrayBlockingQueue<>(blocks + 1);
+        this.free = new ArrayBlockingQueue<>(blocks);
+        for (int i = 0; i < blocks; i++) {
+            free.add(ByteBuffer.allocate(blockBytes));
+        }
+
+        this.thread = new Thread(this::readAhead, "cobol-readahead");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Open a file with readahead using default block settings.
+     *
+     * @param file The file to read
+     * @return The readahead channel
+     * @throws IOException If the file cannot be opened
+     */
+    public static ReadaheadChannel open(Path file) throws IOException {
+        return new ReadaheadChannel(FileChannel.open(file, StandardOpenOption.READ), DEFAULT_BLOCK_BYTES,
+            DEFAULT_BLOCKS);
+    }
+
+    /**
+     * Background loop: fill free blocks from the source and hand them to the consumer.
+     * The end marker is always posted, so a failure of any kind reaches the consumer
+     * instead of leaving it waiting.
+     */
+    private void readAhead() {
+        try {
+            while (!closed) {
+                ByteBuffer block = free.take();
+                block.clear();
+                boolean endOfSource = false;
+                while (block.hasRemaining()) {
+                    if (source.read(block) < 0) {
+                        endOfSource = true;
+                        break;
+                    }
+                }
+                block.flip();
+                if (block.hasRemaining()) {
+                    filled.put(block);
+                }
+                if (endOfSource) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed while waiting for a free block
+        } catch (Throwable e) {
+            if (!closed) {
+                failure = e instanceof IOException ? (IOException) e : new IOException("Readahead failed", e);
+            }
+        } finally {
+            // The queue holds one slot more than there are blocks, so this never blocks
+            filled.offer(END);
+        }
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        if (ended) {
+            return endOfInput();
+        }
+
+        int total = 0;
+        while (dst.hasRemaining()) {
+            if (current == null || !current.hasRemaining()) {
+                if (current != null) {
+                    free.offer(current);
+                    current = null;
+                }
+                if (total > 0 && filled.isEmpty()) {
+                    // Hand over what we have instead of waiting for the next block
+                    break;
+                }
+                ByteBuffer next;
+                try {
+                    next = filled.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for readahead");
+                }
+                if (next == END) {
+                    ended = true;
+                    return total > 0 ? total : endOfInput();
+                }
+                current = next;
+            }
+
+            int count = Math.min(dst.remaining(), current.remaining());
+            ByteBuffer chunk = current.duplicate();
+            chunk.limit(chunk.position() + count);
+            dst.put(chunk);
+            current.position(current.position() + count);
+            total += count;
+        }
+        return total;
+    }
+
+    private int endOfInput() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        thread.interrupt();
+        source.close();
+    }
+}
@@ -0,0 +1,202 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.core.FieldInfo;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Routes raw records of a multi-record-type file (header, detail, trailer, ...)
+ * to their record class by a discriminator value at a fixed offset.
+ * Registered values are compiled into a byte trie, so dispatching a record costs
+ * one array lookup per discriminator byte and never allocates. Detail subtypes
+ * with their own discriminator can be handled by registering a nested dispatcher.
+ * Register all types before dispatching; lookups are then safe from any thread.
+ */
+public class RecordDispatcher {
+    private final int offset;
+    private final int length;
+    private final Node root = new Node();
+    private RecordLayout defaultLayout;
+
+    /**
+     * Creates a dispatcher on a discriminator at a fixed offset.
+     *
+     * @param offset The discriminator offset in the record
+     * @param length The discriminator length
+     */
+    public RecordDispatcher(int offset, int length) {
+        if (offset < 0 || length <= 0) {
+            throw new IllegalArgumentException("Invalid discriminator range [" + offset + "," + (offset + length) + "]");
+        }
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a dispatcher on a discriminator field of a record class, typically
+     * a record-type field shared by all record types of the file.
+     *
+     * @param recordClass A COBOL-annotated class declaring the discriminator
+     * @param discriminatorField The discriminator field name or dotted path
+     * @throws IllegalArgumentException If the field does not exist
+     */
+    public RecordDispatcher(Class<?> recordClass, String discriminatorField) {
+        this(RecordLayout.of(recordClass).getField(discriminatorField).getStartPos(),
+            RecordLayout.of(recordClass).getField(discriminatorField).getCobolField().length());
+    }
+
+    /**
+     * Route records with a discriminator value to a record class.
+     * Values shorter than the discriminator are padded with trailing spaces.
+     *
+     * @param value The discriminator value
+     * @param recordClass The COBOL-annotated record class
+     * @throws IllegalArgumentException If the value is too long or already registered
+     */
+    public void register(String value, Class<?> recordClass) {
+        insert(value, RecordLayout.of(recordClass));
+    }
+
+    /**
+     * Route records with a discriminator value to a nested dispatcher, which picks
+     * the final record class by a second discriminator.
+     *
+     * @param value The discriminator value
+     * @param subtypes The dispatcher for the subtypes
+     * @throws IllegalArgumentException If the value is too long or already registered
+     */
+    public void register(String value, RecordDispatcher subtypes) {
+        insert(value, subtypes);
+    }
+
+    /**
+     * Sets the record class for records whose discriminator is not registered.
+     * Without a default such records are rejected.
+     *
+     * @param recordClass The COBOL-annotated fallback class, or null for none
+     */
+    public void setDefault(Class<?> recordClass) {
+        this.defaultLayout = recordClass == null ? null : RecordLayout.of(recordClass);
+    }
+
+    /**
+     * Find the layout for a raw record.
+     *
+     * @param buffer The buffer holding the record
+     * @param position The position of the record in the buffer
+     * @param recordLength The record length
+     * @return The layout of the record's type
+     * @throws CobolParseException If the discriminator is unknown or the record is too short for its layout
+     */
+    public RecordLayout dispatch(ByteBuffer buffer, int position, int recordLength) throws CobolParseException {
+        RecordDispatcher dispatcher = this;
+        while (true) {
+            Object target = dispatcher.lookup(buffer, position, recordLength);
+            if (target instanceof RecordDispatcher) {
+                dispatcher = (RecordDispatcher) target;
+                continue;
+            }
+
+            RecordLayout layout = target != null ? (RecordLayout) target : dispatcher.defaultLayout;
+            if (layout == null) {
+                throw new CobolParseException("Unknown record type '" + dispatcher.discriminator(buffer, position,
+                    recordLength) + "' at offset " + dispatcher.offset);
+            }
+            RecordReader.checkLength(layout, position, recordLength);
+            return layout;
+        }
+    }
+
+    /**
+     * Dispatch a raw record and decode it into a new object of its record class.
+     *
+     * @param buffer The buffer holding the record
+     * @param position The position of the record in the buffer
+     * @param recordLength The record length
+     * @return The decoded record
+     * @throws IllegalAccessException If a field cannot be accessed
+     * @throws CobolParseException If the record type is unknown or the record cannot be decoded
+     */
+    public Object decode(ByteBuffer buffer, int position, int recordLength)
+            throws IllegalAccessException, CobolParseException {
+        RecordLayout layout = dispatch(buffer, position, recordLength);
+        Object record = layout.newRecord();
+        layout.decode(buffer, position, record);
+        return record;
+    }
+
+    /**
+     * Stream all records of a reader, each decoded into its own record class,
+     * in a single pass. Closing the stream closes the reader.
+     *
+     * @param reader The record reader
+     * @return A sequential stream of decoded records
+     */
+    public Stream<Object> stream(RecordReader reader) {
+        return reader.stream(this::decode);
+    }
+
+    /**
+     * Walk the trie along the discriminator bytes of a record.
+     *
+     * @return The registered layout or nested dispatcher, or null if none matches
+     */
+    private Object lookup(ByteBuffer buffer, int position, int recordLength) {
+        if (recordLength < offset + length) {
+            return null;
+        }
+        Node node = root;
+        int start = position + offset;
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.children == null ? null : node.children[buffer.get(start + i) & 0xFF];
+        }
+        return node == null ? null : node.target;
+    }
+
+    private void insert(String value, Object target) {
+        if (value.length() > length) {
+            throw new IllegalArgumentException(
+                "Discriminator value '" + value + "' exceeds discriminator length of " + length);
+        }
+
+        byte[] bytes = String.format("%-" + length + "s", value).getBytes(StandardCharsets.ISO_8859_1);
+        Node node = root;
+        for (byte b : bytes) {
+            if (node.children == null) {
+                node.children = new Node[256];
+            }
+            Node child = node.children[b & 0xFF];
+            if (child == null) {
+                child = new Node();
+                node.children[b & 0xFF] = child;
+            }
+            node = child;
+        }
+
+        if (node.target != null) {
+            throw new IllegalArgumentException("Discriminator value '" + value + "' is already registered");
+        }
+        node.target = target;
+    }
+
+    private String discriminator(ByteBuffer buffer, int position, int recordLength) {
+        int end = Math.min(offset + length, recordLength);
+        StringBuilder value = new StringBuilder();
+        for (int i = offset; i < end; i++) {
+            value.append((char) (buffer.get(position + i) & 0xFF));
+        }
+        return value.toString();
+    }
+
+    /**
+     * Trie node indexed by unsigned byte value.
+     */
+    private static class Node {
+        private Node[] children;
+        private Object target;
+    }
+}
@@ -0,0 +1,25 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.exception.CobolParseException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Maps a raw record held in a buffer to a value, such as a decoded record object.
+ *
+ * @param <T> The mapped type
+ */
+@FunctionalInterface
+public interface RecordMapper<T> {
+    /**
+     * Map a raw record.
+     *
+     * @param buffer The buffer holding the record
+     * @param position The position of the record in the buffer
+     * @param length The record length
+     * @return The mapped value
+     * @throws IllegalAccessException If a field cannot be accessed
+     * @throws CobolParseException If the record cannot be parsed
+     */
+    T map(ByteBuffer buffer, int position, int length) throws IllegalAccessException, CobolParseException;
+}
@@ -0,0 +1,154 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.core.RecordView;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming reader of raw records. Each call to {@link #next()} frames the next
+ * record inside a reusable buffer; the record bytes stay valid until the following
+ * call. Readers are not thread-safe.
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * Advance to the next record.
+     *
+     * @return True if a record is available, false at the end of the input
+     * @throws IOException If the input cannot be read
+     * @throws CobolParseException If the input is not correctly framed
+     */
+    boolean next() throws IOException, CobolParseException;
+
+    /**
+     * Gets the buffer holding the current record.
+     *
+     * @return The buffer
+     */
+    ByteBuffer getBuffer();
+
+    /**
+     * Gets the position of the current record in the buffer.
+     *
+     * @return The position
+     */
+    int getPosition();
+
+    /**
+     * Gets the length of the current record.
+     *
+     * @return The record length in bytes
+     */
+    int getLength();
+
+    /**
+     * Stream the remaining records through a mapper. Closing the stream closes the reader.
+     * I/O errors surface as {@link UncheckedIOException}; parse and access errors as
+     * {@link IllegalStateException}.
+     *
+     * @param mapper The mapper applied to each raw record
+     * @param <T> The mapped type
+     * @return A sequential stream of mapped records
+     */
+    default <T> Stream<T> stream(RecordMapper<T> mapper) {
+        Iterator<T> iterator = new Iterator<T>() {
+            private boolean fetched;
+            private T current;
+
+            @Override
+            public boolean hasNext() {
+                if (!fetched) {
+                    try {
+                        current = RecordReader.this.next()
+                            ? mapper.map(getBuffer(), getPosition(), getLength())
+                            : null;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (IllegalAccessException | CobolParseException e) {
+                        throw new IllegalStateException("Failed to read record", e);
+                    }
+                    fetched = true;
+                }
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                fetched = false;
+                return current;
+            }
+        };
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                try {
+                    close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Stream the remaining records as a single flyweight view. The view is re-pointed
+     * at each record, so it must not be held on to past the next element.
+     *
+     * @param layout The record layout
+     * @return A sequential stream of views
+     */
+    default Stream<RecordView> views(RecordLayout layout) {
+        RecordView view = new RecordView(layout);
+        return stream((buffer, position, length) -> {
+            checkLength(layout, position, length);
+            return view.wrap(buffer, position);
+        });
+    }
+
+    /**
+     * Stream the remaining records decoded into new objects.
+     *
+     * @param recordClass The COBOL-annotated record class
+     * @param <T> The record class
+     * @return A sequential stream of decoded records
+     */
+    default <T> Stream<T> stream(Class<T> recordClass) {
+        RecordLayout layout = RecordLayout.of(recordClass);
+        return stream((buffer, position, length) -> {
+            checkLength(layout, position, length);
+            T record = recordClass.cast(layout.newRecord());
+            layout.decode(buffer, position, record);
+            return record;
+        });
+    }
+
+    /**
+     * Check that a framed record is long enough for a layout.
+     *
+     * @param layout The record layout
+     * @param position The position of the record
+     * @param length The record length
+     * @throws CobolParseException If the record is shorter than the layout
+     */
+    static void checkLength(RecordLayout layout, int position, int length) throws CobolParseException {
+        if (length < layout.getRecordLength()) {
+            throw new CobolParseException(
+                "Record at buffer position " + position + " has length " + length + " but " +
+                layout.getRecordClass().getName() + " needs " + layout.getRecordLength());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.exception.CobolParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Streaming reader for mainframe variable-length files, where each record starts
+ * with a 4-byte Record Descriptor Word (RDW) holding the big-endian record length,
+ * including the RDW itself. In blocked files (RECFM=VB) records are grouped into
+ * blocks, each starting with a 4-byte Block Descriptor Word (BDW); extended BDWs
+ * with the high bit set are supported. The framed record excludes the RDW.
+ * Spanned records (RECFM=VBS) are not supported.
+ */
+public class VariableLengthRecordReader extends ChannelRecordReader {
+    private static final int DESCRIPTOR_BYTES = 4;
+
+    private final boolean blocked;
+    private long blockRemaining;
+
+    /**
+     * Creates a reader over a file, with readahead.
+     *
+     * @param file The record file
+     * @param blocked True if records are grouped into blocks with BDWs
+     * @throws IOException If the file cannot be opened
+     */
+    public VariableLengthRecordReader(Path file, boolean blocked) throws IOException {
+        this(ReadaheadChannel.open(file), blocked, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Creates a reader over a channel.
+     *
+     * @param channel The channel to read
+     * @param blocked True if records are grouped into blocks with BDWs
+     * @param bufferBytes The initial read buffer size in bytes
+     */
+    public VariableLengthRecordReader(ReadableByteChannel channel, boolean blocked, int bufferBytes) {
+        super(channel, Math.max(DESCRIPTOR_BYTES, bufferBytes));
+        this.blocked = blocked;
+    }
+
+    @Override
+    public boolean next() throws IOException, CobolParseException {
+        if (blocked && blockRemaining == 0 && !readBlockDescriptor()) {
+            return false;
+        }
+
+        if (!fill(DESCRIPTOR_BYTES)) {
+            if (blocked || available() > 0) {
+                throw new CobolParseException("Truncated record descriptor word: " + available() + " trailing bytes");
+            }
+            return false;
+        }
+
+        ByteBuffer buffer = getBuffer();
+        int length = buffer.getShort(readPos) & 0xFFFF;
+        if (buffer.get(readPos + 2) != 0) {
+            throw new CobolParseException("Spanned records are not supported");
+        }
+        if (length < DESCRIPTOR_BYTES) {
+            throw new CobolParseException("Invalid record descriptor word length " + length);
+        }
+        if (blocked && length > blockRemaining) {
+            throw new CobolParseException(
+                "Record of length " + length + " overruns its block with " + blockRemaining + " bytes left");
+        }
+        if (!fill(length)) {
+            throw new CobolParseException(
+                "Truncated record: expected " + length + " bytes but only " + available() + " remain");
+        }
+
+        // The buffer may have been compacted by fill, so read the position afterwards
+        setRecord(readPos + DESCRIPTOR_BYTES, length - DESCRIPTOR_BYTES, length);
+        blockRemaining -= length;
+        return true;
+    }
+
+    /**
+     * Read the next block descriptor word.
+     *
+     * @return True if a block follows, false at the end of the input
+     */
+    private boolean readBlockDescriptor() throws IOException, CobolParseException {
+        if (!fill(DESCRIPTOR_BYTES)) {
+            if (available() > 0) {
+                throw new CobolParseException("Truncated block descriptor word: " + available() + " trailing bytes");
+            }
+            return false;
+        }
+
+        ByteBuffer buffer = getBuffer();
+        long length;
+        if ((buffer.get(readPos) & 0x80) != 0) {
+            // Extended BDW: 31-bit length over all four bytes
+            length = buffer.getInt(readPos) & 0x7FFFFFFFL;
+        } else {
+            length = buffer.getShort(readPos) & 0xFFFF;
+        }
+        if (length <= DESCRIPTOR_BYTES) {
+            throw new CobolParseException("Invalid block descriptor word length " + length);
+        }
+
+        readPos += DESCRIPTOR_BYTES;
+        blockRemaining = length - DESCRIPTOR_BYTES;
+        return true;
+    }
+}
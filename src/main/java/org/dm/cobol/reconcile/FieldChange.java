@@ -0,0 +1,69 @@
+package org.dm.cobol.reconcile;
+
+import org.dm.cobol.core.FieldInfo;
+
+/**
+ * A single field whose value differs between two matched records.
+ */
+public class FieldChange {
+    private final String fieldName;
+    private final FieldInfo fieldInfo;
+    private final String before;
+    private final String after;
+
+    /**
+     * Creates a new FieldChange instance.
+     *
+     * @param fieldName The dotted path of the field
+     * @param fieldInfo The field information from the layout
+     * @param before The raw value in the earlier file
+     * @param after The raw value in the later file
+     */
+    public FieldChange(String fieldName, FieldInfo fieldInfo, String before, String after) {
+        this.fieldName = fieldName;
+        this.fieldInfo = fieldInfo;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Gets the dotted path of the field.
+     *
+     * @return The field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Gets the field information from the layout.
+     *
+     * @return The field information
+     */
+    public FieldInfo getFieldInfo() {
+        return fieldInfo;
+    }
+
+    /**
+     * Gets the raw value in the earlier file.
+     *
+     * @return The earlier value
+     */
+    public String getBefore() {
+        return before;
+    }
+
+    /**
+     * Gets the raw value in the later file.
+     *
+     * @return The later value
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    @Override
+    public String toString() {
+        return fieldName + ": '" + before + "' -> '" + after + "'";
+    }
+}
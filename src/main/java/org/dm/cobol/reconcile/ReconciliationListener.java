@@ -0,0 +1,40 @@
+package org.dm.cobol.reconcile;
+
+import org.dm.cobol.core.RecordView;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Receives the differences found by a {@link RecordReconciler}, in key order.
+ * The views passed in are flyweights re-pointed at the next record afterwards,
+ * so copy anything that must outlive the call.
+ */
+public interface ReconciliationListener {
+
+    /**
+     * Called for a record that exists only in the later file.
+     *
+     * @param record The added record
+     * @throws IOException If the report cannot be written
+     */
+    void added(RecordView record) throws IOException;
+
+    /**
+     * Called for a record that exists only in the earlier file.
+     *
+     * @param record The deleted record
+     * @throws IOException If the report cannot be written
+     */
+    void deleted(RecordView record) throws IOException;
+
+    /**
+     * Called for a record present in both files with differing field values.
+     *
+     * @param before The record in the earlier file
+     * @param after The record in the later file
+     * @param changes The changed fields in record order
+     * @throws IOException If the report cannot be written
+     */
+    void changed(RecordView before, RecordView after, List<FieldChange> changes) throws IOException;
+}
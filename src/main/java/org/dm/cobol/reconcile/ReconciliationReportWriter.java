@@ -0,0 +1,138 @@
+package org.dm.cobol.reconcile;
+
+import org.dm.cobol.core.RecordView;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener that writes reconciliation results to three report files.
+ * Added and deleted records are copied verbatim, so those reports are fixed-length
+ * record files of the same layout. Changes are written one line per changed field
+ * as {@code key|field|before|after}, where the key is the key field values joined by '|'.
+ * Values are written as-is except that a backslash, '|', CR and LF are escaped as
+ * {@code \\}, {@code \|}, {@code \r} and {@code \n}, so every line splits
+ * cleanly on unescaped '|' characters.
+ */
+public class ReconciliationReportWriter implements ReconciliationListener, Closeable {
+    private final OutputStream added;
+    private final OutputStream deleted;
+    private final OutputStream changes;
+    private final String[] keyFields;
+    private byte[] scratch = new byte[0];
+
+    /**
+     * Creates a writer, creating or truncating the report files.
+     *
+     * @param addedFile The report of added records
+     * @param deletedFile The report of deleted records
+     * @param changesFile The report of changed fields
+     * @param keyFields The key field names used to label changes
+     * @throws IOException If a report file cannot be opened
+     */
+    public ReconciliationReportWriter(Path addedFile, Path deletedFile, Path changesFile, String... keyFields)
+            throws IOException {
+        List<OutputStream> opened = new ArrayList<>();
+        try {
+            opened.add(new BufferedOutputStream(Files.newOutputStream(addedFile)));
+            opened.add(new BufferedOutputStream(Files.newOutputStream(deletedFile)));
+            opened.add(new BufferedOutputStream(Files.newOutputStream(changesFile)));
+        } catch (IOException e) {
+            for (OutputStream out : opened) {
+                out.close();
+            }
+            throw e;
+        }
+        this.added = opened.get(0);
+        this.deleted = opened.get(1);
+        this.changes = opened.get(2);
+        this.keyFields = keyFields;
+    }
+
+    @Override
+    public void added(RecordView record) throws IOException {
+        writeRecord(added, record);
+    }
+
+    @Override
+    public void deleted(RecordView record) throws IOException {
+        writeRecord(deleted, record);
+    }
+
+    @Override
+    public void changed(RecordView before, RecordView after, List<FieldChange> fieldChanges) throws IOException {
+        StringBuilder key = new StringBuilder();
+        for (String keyField : keyFields) {
+            appendEscaped(key, after.getString(keyField)).append('|');
+        }
+
+        StringBuilder line = new StringBuilder();
+        for (FieldChange change : fieldChanges) {
+            line.setLength(0);
+            line.append(key).append(change.getFieldName()).append('|');
+            appendEscaped(line, change.getBefore()).append('|');
+            appendEscaped(line, change.getAfter()).append('\n');
+            changes.write(line.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    private static StringBuilder appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '|':
+                    out.append("\\|");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+        return out;
+    }
+
+    private void writeRecord(OutputStream out, RecordView record) throws IOException {
+        int length = record.getLayout().getRecordLength();
+        if (scratch.length < length) {
+            scratch = new byte[length];
+        }
+        ByteBuffer source = record.getBuffer().duplicate();
+        source.clear();
+        source.position(record.getPosition());
+        source.get(scratch, 0, length);
+        out.write(scratch, 0, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (OutputStream out : new OutputStream[] {added, deleted, changes}) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.dm.cobol.reconcile;
+
+/**
+ * Record counts of a reconciliation run.
+ */
+public class ReconciliationSummary {
+    private long unchanged;
+    private long changed;
+    private long added;
+    private long deleted;
+
+    /**
+     * Gets the number of matched records with identical bytes.
+     *
+     * @return The unchanged count
+     */
+    public long getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Gets the number of matched records with at least one changed field.
+     *
+     * @return The changed count
+     */
+    public long getChanged() {
+        return changed;
+    }
+
+    /**
+     * Gets the number of records only in the later file.
+     *
+     * @return The added count
+     */
+    public long getAdded() {
+        return added;
+    }
+
+    /**
+     * Gets the number of records only in the earlier file.
+     *
+     * @return The deleted count
+     */
+    public long getDeleted() {
+        return deleted;
+    }
+
+    void incrementUnchanged() {
+        unchanged++;
+    }
+
+    void incrementChanged() {
+        changed++;
+    }
+
+    void incrementAdded() {
+        added++;
+    }
+
+    void incrementDeleted() {
+        deleted++;
+    }
+
+    @Override
+    public String toString() {
+        return "unchanged=" + unchanged + ", changed=" + changed + ", added=" + added + ", deleted=" + deleted;
+    }
+}
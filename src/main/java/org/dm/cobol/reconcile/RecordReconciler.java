@@ -0,0 +1,225 @@
+package org.dm.cobol.reconcile;
+
+import org.dm.cobol.core.FieldInfo;
+import org.dm.cobol.core.KeyComparator;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.core.RecordView;
+import org.dm.cobol.exception.CobolParseException;
+import org.dm.cobol.io.FixedLengthRecordReader;
+import org.dm.cobol.io.RecordReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reconciles two record files sorted by the same key, such as yesterday's and
+ * today's extract, in a single streaming pass over both.
+ * Keys are compared on raw bytes; matched records are compared byte for byte and
+ * only the fields of records that differ are decoded. Memory use is constant
+ * regardless of file size. Both inputs must be in strictly ascending key order,
+ * which can be established with {@link org.dm.cobol.sort.RecordSorter}. The sorter
+ * keeps records with equal keys, so sorted files that still hold duplicate keys are
+ * rejected here and must be deduplicated first.
+ */
+public class RecordReconciler {
+    private final RecordLayout layout;
+    private final KeyComparator comparator;
+    private final List<FieldInfo> fields;
+    private final List<String> fieldNames;
+    private int recordLength;
+
+    /**
+     * Creates a reconciler for records of the given class.
+     *
+     * @param recordClass The COBOL-annotated record class
+     * @param keyFields The key field names or dotted paths, most significant first
+     * @throws IllegalArgumentException If no key is given or a key field does not exist
+     */
+    public RecordReconciler(Class<?> recordClass, String... keyFields) {
+        this.layout = RecordLayout.of(recordClass);
+        this.comparator = new KeyComparator(layout, keyFields);
+        this.fields = layout.getFields();
+        this.fieldNames = layout.getFieldNames();
+        this.recordLength = layout.getRecordLength();
+    }
+
+    /**
+     * Sets the length of a record slot in files reconciled by path. Defaults to the layout
+     * length; use a larger value when records are followed by filler or a line terminator.
+     *
+     * @param recordLength The record slot length in bytes
+     * @throws IllegalArgumentException If the length is not positive or shorter than the record layout
+     */
+    public void setRecordLength(int recordLength) {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be positive");
+        }
+        if (recordLength < layout.getRecordLength()) {
+            throw new IllegalArgumentException(
+                "Record length " + recordLength + " is shorter than the layout length " + layout.getRecordLength());
+        }
+        this.recordLength = recordLength;
+    }
+
+    /**
+     * Reconcile two fixed-length record files with the configured record slot length.
+     *
+     * @param before The earlier file
+     * @param after The later file
+     * @param listener The listener receiving the differences
+     * @return The record counts
+     * @throws IOException If a file cannot be read or the listener fails
+     * @throws CobolParseException If a file is malformed or not in ascending key order
+     */
+    public ReconciliationSummary reconcile(Path before, Path after, ReconciliationListener listener)
+            throws IOException, CobolParseException {
+        try (RecordReader beforeReader = new FixedLengthRecordReader(before, recordLength);
+             RecordReader afterReader = new FixedLengthRecordReader(after, recordLength)) {
+            return reconcile(beforeReader, afterReader, listener);
+        }
+    }
+
+    /**
+     * Reconcile the records of two readers. The readers are not closed.
+     *
+     * @param before The reader of the earlier file
+     * @param after The reader of the later file
+     * @param listener The listener receiving the differences
+     * @return The record counts
+     * @throws IOException If a file cannot be read or the listener fails
+     * @throws CobolParseException If a file is malformed or not in ascending key order
+     */
+    public ReconciliationSummary reconcile(RecordReader before, RecordReader after, ReconciliationListener listener)
+            throws IOException, CobolParseException {
+        ReconciliationSummary summary = new ReconciliationSummary();
+        Side earlier = new Side(before, "earlier");
+        Side later = new Side(after, "later");
+        earlier.advance();
+        later.advance();
+
+        while (earlier.present || later.present) {
+            int result;
+            if (!earlier.present) {
+                result = 1;
+            } else if (!later.present) {
+                result = -1;
+            } else {
+                result = comparator.compare(earlier.buffer(), earlier.position(), later.buffer(), later.position());
+            }
+
+            if (result < 0) {
+                listener.deleted(earlier.view);
+                summary.incrementDeleted();
+                earlier.advance();
+            } else if (result > 0) {
+                listener.added(later.view);
+                summary.incrementAdded();
+                later.advance();
+            } else {
+                if (bytesEqual(earlier.buffer(), earlier.position(), later.buffer(), later.position(),
+                        layout.getRecordLength())) {
+                    summary.incrementUnchanged();
+                } else {
+                    listener.changed(earlier.view, later.view, changedFields(earlier.view, later.view));
+                    summary.incrementChanged();
+                }
+                earlier.advance();
+                later.advance();
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Decode the fields whose bytes differ between two matched records.
+     */
+    private List<FieldChange> changedFields(RecordView before, RecordView after) {
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            FieldInfo info = fields.get(i);
+            if (!bytesEqual(before.getBuffer(), before.getPosition() + info.getStartPos(),
+                    after.getBuffer(), after.getPosition() + info.getStartPos(), info.getCobolField().length())) {
+                changes.add(new FieldChange(fieldNames.get(i), info, before.getString(info), after.getString(info)));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Compare two byte ranges for equality, eight bytes at a time.
+     */
+    private static boolean bytesEqual(ByteBuffer a, int aOff, ByteBuffer b, int bOff, int length) {
+        int i = 0;
+        for (; i + 8 <= length; i += 8) {
+            if (a.getLong(aOff + i) != b.getLong(bOff + i)) {
+                return false;
+            }
+        }
+        for (; i < length; i++) {
+            if (a.get(aOff + i) != b.get(bOff + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One input of the reconciliation: its reader, a view of the current record
+     * and a copy of the previous record for checking the key order.
+     */
+    private class Side {
+        private final RecordReader reader;
+        private final String name;
+        private final RecordView view = new RecordView(layout);
+        private final ByteBuffer previous = ByteBuffer.allocate(layout.getRecordLength());
+        private boolean hasPrevious;
+        private boolean present;
+
+        Side(RecordReader reader, String name) {
+            this.reader = reader;
+            this.name = name;
+        }
+
+        ByteBuffer buffer() {
+            return reader.getBuffer();
+        }
+
+        int position() {
+            return reader.getPosition();
+        }
+
+        /**
+         * Move to the next record, checking that keys are strictly ascending.
+         */
+        void advance() throws IOException, CobolParseException {
+            if (present) {
+                // The reader may reuse its buffer, so keep a copy for the order check
+                ByteBuffer current = buffer().duplicate();
+                current.clear();
+                current.position(position());
+                current.limit(position() + layout.getRecordLength());
+                previous.clear();
+                previous.put(current);
+                hasPrevious = true;
+            }
+
+            present = reader.next();
+            if (!present) {
+                return;
+            }
+
+            if (reader.getLength() < layout.getRecordLength()) {
+                throw new CobolParseException("Record in " + name + " file has length " + reader.getLength() +
+                    " but the layout needs " + layout.getRecordLength());
+            }
+            if (hasPrevious && comparator.compare(previous, 0, buffer(), position()) >= 0) {
+                throw new CobolParseException(
+                    "Records in " + name + " file are not in strictly ascending key order");
+            }
+            view.wrap(buffer(), position());
+        }
+    }
+}
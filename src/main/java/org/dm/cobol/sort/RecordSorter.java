@@ -0,0 +1,451 @@
+package org.dm.cobol.sort;
+
+import org.dm.cobol.core.KeyComparator;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.exception.CobolParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * External merge sort for files of fixed-length COBOL records.
+ * Records are ordered by key fields taken from the record class layout and are
+ * never parsed into objects: chunks of the memory-mapped input are sorted in
+ * parallel on their raw bytes, spilled to temporary files and then k-way merged.
+ * Memory use is bounded by the chunk size, the parallelism and the merge fan-in.
+ */
+public class RecordSorter {
+    private static final int DEFAULT_CHUNK_BYTES = 64 * 1024 * 1024;
+    private static final int DEFAULT_MERGE_FAN_IN = 64;
+    private static final int IO_BUFFER_BYTES = 256 * 1024;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final KeyComparator comparator;
+    private final int minimumRecordLength;
+    private int recordLength;
+    private int chunkBytes = DEFAULT_CHUNK_BYTES;
+    private int mergeFanIn = DEFAULT_MERGE_FAN_IN;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private Path tempDirectory;
+
+    /**
+     * Creates a sorter for records of the given class.
+     *
+     * @param recordClass The COBOL-annotated record class
+     * @param keyFields The key field names or dotted paths, most significant first
+     * @throws IllegalArgumentException If no key is given or a key field does not exist
+     */
+    public RecordSorter(Class<?> recordClass, String... keyFields) {
+        this(new KeyComparator(RecordLayout.of(recordClass), keyFields),
+            RecordLayout.of(recordClass).getRecordLength(), RecordLayout.of(recordClass).getRecordLength());
+    }
+
+    /**
+     * Creates a sorter for fixed-length records ordered by an existing comparator.
+     *
+     * @param comparator The key comparator
+     * @param recordLength The record length in bytes
+     * @throws IllegalArgumentException If the record length is not positive
+     */
+    public RecordSorter(KeyComparator comparator, int recordLength) {
+        this(comparator, recordLength, 1);
+    }
+
+    private RecordSorter(KeyComparator comparator, int recordLength, int minimumRecordLength) {
+        this.comparator = comparator;
+        this.minimumRecordLength = minimumRecordLength;
+        this.recordLength = checkRecordLength(recordLength);
+    }
+
+    /**
+     * Sets the length of a record slot in the file. Defaults to the layout length;
+     * use a larger value when records are followed by filler or a line terminator.
+     *
+     * @param recordLength The record slot length in bytes
+     * @throws IllegalArgumentException If the length is not positive or shorter than the record layout
+     */
+    public void setRecordLength(int recordLength) {
+        this.recordLength = checkRecordLength(recordLength);
+    }
+
+    /**
+     * Sets the maximum number of input bytes sorted in memory as one chunk.
+     *
+     * @param chunkBytes The chunk size in bytes
+     */
+    public void setChunkBytes(int chunkBytes) {
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * Sets the maximum number of spill files merged in a single pass.
+     *
+     * @param mergeFanIn The merge fan-in, at least 2
+     */
+    public void setMergeFanIn(int mergeFanIn) {
+        this.mergeFanIn = mergeFanIn;
+    }
+
+    /**
+     * Sets the number of chunks sorted concurrently.
+     *
+     * @param parallelism The number of sorting threads
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the directory for spill files. Defaults to the system temporary directory.
+     *
+     * @param tempDirectory The spill directory
+     */
+    public void setTempDirectory(Path tempDirectory) {
+        this.tempDirectory = tempDirectory;
+    }
+
+    private int checkRecordLength(int recordLength) {
+        if (recordLength <= 0) {
+            throw new IllegalArgumentException("Record length must be positive");
+        }
+        if (recordLength < minimumRecordLength) {
+            // Keys would be read from the following record
+            throw new IllegalArgumentException(
+                "Record length " + recordLength + " is shorter than the layout length " + minimumRecordLength);
+        }
+        return recordLength;
+    }
+
+    /**
+     * Sort a record file by the configured keys. The sort is stable.
+     *
+     * @param input The file to sort
+     * @param output The file to write the sorted records to
+     * @throws IOException If a file cannot be read or written
+     * @throws CobolParseException If the input is not a whole number of records
+     */
+    public void sort(Path input, Path output) throws IOException, CobolParseException {
+        if (mergeFanIn < 2) {
+            throw new IllegalArgumentException("Merge fan-in must be at least 2");
+        }
+
+        List<Path> spills;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size % recordLength != 0) {
+                throw new CobolParseException(
+                    "File size " + size + " of " + input + " is not a multiple of record length " + recordLength);
+            }
+            spills = sortChunks(in, size / recordLength);
+        }
+
+        try {
+            if (spills.isEmpty()) {
+                Files.newByteChannel(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE).close();
+                return;
+            }
+
+            while (spills.size() > mergeFanIn) {
+                List<Path> merged = new ArrayList<>();
+                try {
+                    for (int i = 0; i < spills.size(); i += mergeFanIn) {
+                        List<Path> group = spills.subList(i, Math.min(i + mergeFanIn, spills.size()));
+                        Path target = createSpillFile();
+                        merged.add(target);
+                        merge(group, target);
+                        deleteAll(group);
+                    }
+                } catch (IOException e) {
+                    deleteAll(merged);
+                    throw e;
+                }
+                spills = merged;
+            }
+
+            if (spills.size() == 1) {
+                Files.move(spills.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                merge(spills, output);
+            }
+        } finally {
+            deleteAll(spills);
+        }
+    }
+
+    /**
+     * Sort the input chunk by chunk on a thread pool and spill each sorted chunk.
+     *
+     * @param in The input channel
+     * @param recordCount The number of records in the input
+     * @return The spill files in input order
+     */
+    private List<Path> sortChunks(FileChannel in, long recordCount) throws IOException {
+        int recordsPerChunk = Math.max(1, chunkBytes / recordLength);
+        List<Path> spills = new ArrayList<>();
+        if (recordCount == 0) {
+            return spills;
+        }
+
+        int chunkCount = (int) ((recordCount + recordsPerChunk - 1) / recordsPerChunk);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, chunkCount)));
+        List<Future<Path>> futures = new ArrayList<>();
+        try {
+            for (long first = 0; first < recordCount; first += recordsPerChunk) {
+                long position = first * recordLength;
+                int count = (int) Math.min(recordsPerChunk, recordCount - first);
+                futures.add(executor.submit(new ChunkSort(in, position, count)));
+            }
+
+            IOException failure = null;
+            for (Future<Path> future : futures) {
+                try {
+                    spills.add(future.get());
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof IOException
+                            ? (IOException) e.getCause()
+                            : new IOException("Failed to sort chunk", e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (failure == null) {
+                        failure = new IOException("Interrupted while sorting chunks", e);
+                    }
+                }
+            }
+
+            if (failure != null) {
+                deleteAll(spills);
+                throw failure;
+            }
+            return spills;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Sorts one memory-mapped chunk of the input into a spill file.
+     */
+    private class ChunkSort implements Callable<Path> {
+        private final FileChannel in;
+        private final long position;
+        private final int count;
+
+        ChunkSort(FileChannel in, long position, int count) {
+            this.in = in;
+            this.position = position;
+            this.count = count;
+        }
+
+        @Override
+        public Path call() throws IOException {
+            MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, position, (long) count * recordLength);
+
+            int[] offsets = new int[count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = i * recordLength;
+            }
+            sortOffsets(chunk, offsets, new int[count], 0, count);
+
+            Path spill = createSpillFile();
+            try (FileChannel out = FileChannel.open(spill, StandardOpenOption.WRITE)) {
+                ByteBuffer outBuffer = allocateIoBuffer();
+                for (int offset : offsets) {
+                    chunk.clear();
+                    chunk.position(offset);
+                    chunk.limit(offset + recordLength);
+                    append(out, outBuffer, chunk);
+                }
+                flush(out, outBuffer);
+            } catch (IOException e) {
+                Files.deleteIfExists(spill);
+                throw e;
+            }
+            return spill;
+        }
+    }
+
+    /**
+     * Stable merge sort of record offsets within a buffer.
+     *
+     * @param buffer The buffer holding the records
+     * @param offsets The record offsets to sort
+     * @param scratch Scratch space the size of the offsets array
+     * @param from The first index to sort, inclusive
+     * @param to The last index to sort, exclusive
+     */
+    private void sortOffsets(ByteBuffer buffer, int[] offsets, int[] scratch, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int current = offsets[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare(buffer, offsets[j], buffer, current) > 0) {
+                    offsets[j + 1] = offsets[j];
+                    j--;
+                }
+                offsets[j + 1] = current;
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        sortOffsets(buffer, offsets, scratch, from, mid);
+        sortOffsets(buffer, offsets, scratch, mid, to);
+        if (comparator.compare(buffer, offsets[mid - 1], buffer, offsets[mid]) <= 0) {
+            // Halves are already in order
+            return;
+        }
+
+        System.arraycopy(offsets, from, scratch, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(buffer, scratch[left], buffer, scratch[right]) <= 0)) {
+                offsets[i] = scratch[left++];
+            } else {
+                offsets[i] = scratch[right++];
+            }
+        }
+    }
+
+    /**
+     * K-way merge of sorted spill files into a target file.
+     * Ties are broken by source order to keep the sort stable.
+     *
+     * @param sources The sorted files, in input order
+     * @param target The file to write
+     */
+    private void merge(List<Path> sources, Path target) throws IOException {
+        PriorityQueue<SpillCursor> queue = new PriorityQueue<>(sources.size(), (a, b) -> {
+            int result = comparator.compare(a.buffer, a.position, b.buffer, b.position);
+            return result != 0 ? result : Integer.compare(a.sequence, b.sequence);
+        });
+
+        List<SpillCursor> cursors = new ArrayList<>();
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < sources.size(); i++) {
+                SpillCursor cursor = new SpillCursor(sources.get(i), i);
+                cursors.add(cursor);
+                if (cursor.next()) {
+                    queue.add(cursor);
+                }
+            }
+
+            ByteBuffer outBuffer = allocateIoBuffer();
+            while (!queue.isEmpty()) {
+                SpillCursor cursor = queue.poll();
+                append(out, outBuffer, cursor.record());
+                if (cursor.next()) {
+                    queue.add(cursor);
+                }
+            }
+            flush(out, outBuffer);
+        } finally {
+            for (SpillCursor cursor : cursors) {
+                cursor.channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the records of a sorted spill file through a fixed-size buffer.
+     */
+    private class SpillCursor {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final ByteBuffer view;
+        private final int sequence;
+        private int position;
+
+        SpillCursor(Path path, int sequence) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = allocateIoBuffer();
+            this.buffer.limit(0);
+            this.view = buffer.duplicate();
+            this.sequence = sequence;
+            this.position = -recordLength;
+        }
+
+        /**
+         * Advance to the next record, refilling the buffer when it is exhausted.
+         *
+         * @return True if a record is available, false at the end of the file
+         */
+        boolean next() throws IOException {
+            if (position + recordLength < buffer.limit()) {
+                position += recordLength;
+                return true;
+            }
+
+            buffer.clear();
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            position = 0;
+            return buffer.limit() > 0;
+        }
+
+        /**
+         * Get a view of the current record, positioned and limited to its bytes.
+         */
+        ByteBuffer record() {
+            view.clear();
+            view.position(position);
+            view.limit(position + recordLength);
+            return view;
+        }
+    }
+
+    /**
+     * Allocate an I/O buffer holding a whole number of records.
+     */
+    private ByteBuffer allocateIoBuffer() {
+        int records = Math.max(1, IO_BUFFER_BYTES / recordLength);
+        return ByteBuffer.allocate(records * recordLength);
+    }
+
+    private static void append(FileChannel out, ByteBuffer outBuffer, ByteBuffer record) throws IOException {
+        if (outBuffer.remaining() < record.remaining()) {
+            flush(out, outBuffer);
+        }
+        outBuffer.put(record);
+    }
+
+    private static void flush(FileChannel out, ByteBuffer outBuffer) throws IOException {
+        outBuffer.flip();
+        while (outBuffer.hasRemaining()) {
+            out.write(outBuffer);
+        }
+        outBuffer.clear();
+    }
+
+    private Path createSpillFile() throws IOException {
+        return tempDirectory != null
+            ? Files.createTempFile(tempDirectory, "cobol-sort-", ".spill")
+            : Files.createTempFile("cobol-sort-", ".spill");
+    }
+
+    private static void deleteAll(List<Path> paths) throws IOException {
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+}
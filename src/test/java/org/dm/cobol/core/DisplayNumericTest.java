@@ -0,0 +1,99 @@
+package org.dm.cobol.core;
+
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisplayNumericTest {
+
+    @Test
+    void parseDigits_ShouldMatchScalarFallback() {
+        Random random = new Random(7);
+        for (int round = 0; round < 2000; round++) {
+            // Arrange: random digit runs at random offsets, sometimes with one bad byte
+            int length = random.nextInt(DisplayNumeric.MAX_DIGITS + 1);
+            int offset = random.nextInt(5);
+            byte[] bytes = new byte[offset + length];
+            for (int i = 0; i < length; i++) {
+                bytes[offset + i] = (byte) ('0' + random.nextInt(10));
+            }
+            if (length > 0 && random.nextInt(4) == 0) {
+                bytes[offset + random.nextInt(length)] = (byte) "/:A {".charAt(random.nextInt(5));
+            }
+            ByteOrder order = random.nextBoolean() ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(order);
+
+            // Act & Assert
+            assertEquals(DisplayNumeric.parseDigitsScalar(buffer, offset, length),
+                DisplayNumeric.parseDigits(buffer, offset, length));
+            assertEquals(DisplayNumeric.isDigitsScalar(buffer, offset, length),
+                DisplayNumeric.isDigits(buffer, offset, length));
+        }
+    }
+
+    @Test
+    void decode_ShouldHandleUnsignedAndSeparateSigns() throws Exception {
+        assertEquals(123456789012L, decode("000123456789012", CobolFieldType.NUMERIC, 0));
+        assertEquals(-42, decode("-0000042", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(42, decode("0000042+", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(1234, decode("00012.34", CobolFieldType.DECIMAL, 2));
+        assertEquals(-1234, decode("-0012.34", CobolFieldType.DECIMAL, 2));
+        assertEquals(1234, decode("00001234", CobolFieldType.DECIMAL, 2));
+        assertEquals(-1250, decode("0012.50-", CobolFieldType.DECIMAL, 2));
+        assertEquals(1250, decode("0012.50+", CobolFieldType.DECIMAL, 2));
+        assertEquals(1250, decode("+0012.50", CobolFieldType.DECIMAL, 2));
+        assertTrue(DisplayNumeric.isValid(ByteBuffer.wrap("0012.50-".getBytes(StandardCharsets.ISO_8859_1)),
+            0, 8, CobolFieldType.DECIMAL, 2));
+    }
+
+    @Test
+    void decode_ShouldHandleZonedOverpunch() throws Exception {
+        assertEquals(10, decode("000001{", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(-10, decode("000001}", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(19, decode("000001I", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(-19, decode("000001R", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(-17, decode("000001w", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertEquals(-12345, decode("00123.4N", CobolFieldType.DECIMAL, 2));
+    }
+
+    @Test
+    void decode_WithInvalidField_ShouldThrowException() {
+        assertThrows(CobolParseException.class, () -> decode("00 12", CobolFieldType.NUMERIC, 0));
+        assertThrows(CobolParseException.class, () -> decode("0001J", CobolFieldType.NUMERIC, 0));
+        assertThrows(CobolParseException.class, () -> decode("-", CobolFieldType.SIGNED_NUMERIC, 0));
+        assertThrows(CobolParseException.class, () -> decode("1234567890123456789", CobolFieldType.NUMERIC, 0));
+    }
+
+    @Test
+    void isValid_ShouldAgreeWithDecode() {
+        String[] values = {"00012345", "0001234A", "-0001234", "00012.34", "0001 234", "0012.3.4", "+", "12345678+", "0012.50-", "0012.50+"};
+        for (String value : values) {
+            for (CobolFieldType type : new CobolFieldType[] {
+                    CobolFieldType.NUMERIC, CobolFieldType.SIGNED_NUMERIC, CobolFieldType.DECIMAL}) {
+                boolean decodes;
+                try {
+                    decode(value, type, 2);
+                    decodes = true;
+                } catch (CobolParseException e) {
+                    decodes = false;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(value.getBytes(StandardCharsets.ISO_8859_1));
+                assertEquals(decodes, DisplayNumeric.isValid(buffer, 0, value.length(), type, 2),
+                    value + " as " + type);
+            }
+        }
+    }
+
+    private static long decode(String value, CobolFieldType type, int scale) throws CobolParseException {
+        // Decode from the middle of a buffer to exercise absolute offsets
+        byte[] bytes = ("XX" + value + "YY").getBytes(StandardCharsets.ISO_8859_1);
+        return DisplayNumeric.decode(ByteBuffer.wrap(bytes), 2, value.length(), type, scale);
+    }
+}
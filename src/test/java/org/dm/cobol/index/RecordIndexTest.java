@@ -0,0 +1,236 @@
+package org.dm.cobol.index;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.annotation.CobolNestedObject;
+import org.dm.cobol.core.CobolFieldInitializer;
+import org.dm.cobol.core.RecordView;
+import org.dm.cobol.enums.CobolFieldType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void find_ShouldDecodeRecordByNumericKey() throws Exception {
+        // Arrange
+        Path data = writeAccounts(500);
+        Path index = tempDir.resolve("accounts.idx");
+        new RecordIndexBuilder(Account.class, "accountNo").build(data, index);
+
+        // Act
+        Account account;
+        try (RecordIndex<Account> recordIndex = RecordIndex.open(Account.class, data, index)) {
+            assertEquals(500, recordIndex.size());
+            account = recordIndex.find("271");
+        }
+
+        // Assert
+        assertNotNull(account);
+        assertEquals("00000271", account.accountNo);
+        assertEquals("Holder 271          ", account.holder.name);
+        assertEquals("Town 1    ", account.holder.city);
+    }
+
+    @Test
+    void findView_ShouldReadFieldsByAlphanumericNestedKey() throws Exception {
+        // Arrange
+        Path data = writeAccounts(50);
+        Path index = tempDir.resolve("accounts.idx");
+        RecordIndexBuilder builder = new RecordIndexBuilder(Account.class, "holder.name");
+        builder.setTempDirectory(tempDir);
+        builder.build(data, index);
+
+        // Act & Assert
+        try (RecordIndex<Account> recordIndex = RecordIndex.open(Account.class, data, index)) {
+            RecordView view = recordIndex.findView("Holder 42");
+            assertNotNull(view);
+            assertEquals("00000042", view.getString("accountNo"));
+            assertEquals(42L * Account.LENGTH, recordIndex.findOffset("Holder 42"));
+            assertNull(recordIndex.findView("Nobody"));
+            assertEquals(-1, recordIndex.findOffset("Holder 50"));
+        }
+    }
+
+    @Test
+    void findOffset_WithDuplicateKeys_ShouldReturnFirstInFileOrder() throws Exception {
+        // Arrange
+        Path data = writeAccounts(30);
+        Path index = tempDir.resolve("accounts.idx");
+        new RecordIndexBuilder(Account.class, "city").build(data, index);
+
+        // Act & Assert: Town 2 first appears at account 2
+        try (RecordIndex<Account> recordIndex = RecordIndex.open(Account.class, data, index)) {
+            assertEquals(2L * Account.LENGTH, recordIndex.findOffset("Town 2"));
+        }
+    }
+
+    @Test
+    void findOffset_WithNonNumericProbe_ShouldRejectNumericKey() throws Exception {
+        // Arrange
+        Path data = writeAccounts(200);
+        Path index = tempDir.resolve("accounts.idx");
+        new RecordIndexBuilder(Account.class, "accountNo").build(data, index);
+
+        // Act & Assert
+        try (RecordIndex<Account> recordIndex = RecordIndex.open(Account.class, data, index)) {
+            assertEquals(123L * Account.LENGTH, recordIndex.findOffset("+123"));
+            assertThrows(IllegalArgumentException.class, () -> recordIndex.findOffset("ABC"));
+            assertThrows(IllegalArgumentException.class, () -> recordIndex.findOffset("1 2"));
+            assertThrows(IllegalArgumentException.class, () -> recordIndex.findOffset("-"));
+        }
+    }
+
+    @Test
+    void setRecordLength_WithSlotShorterThanLayout_ShouldThrowException() {
+        // Arrange
+        RecordIndexBuilder builder = new RecordIndexBuilder(Account.class, "accountNo");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.setRecordLength(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.setRecordLength(Account.LENGTH - 1));
+    }
+
+    @Test
+    void open_WithModifiedDataFile_ShouldRejectStaleIndex() throws Exception {
+        // Arrange
+        Path data = writeAccounts(10);
+        Path index = tempDir.resolve("accounts.idx");
+        new RecordIndexBuilder(Account.class, "accountNo").build(data, index);
+        Files.write(data, CobolFieldInitializer.write(account(10)).getBytes(StandardCharsets.ISO_8859_1),
+            StandardOpenOption.APPEND);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> RecordIndex.open(Account.class, data, index));
+    }
+
+    @Test
+    void open_WithSameSizeRewrite_ShouldRejectStaleIndex() throws Exception {
+        // Arrange
+        Path data = writeAccounts(10);
+        Path index = tempDir.resolve("accounts.idx");
+        new RecordIndexBuilder(Account.class, "accountNo").build(data, index);
+        FileTime built = Files.getLastModifiedTime(data);
+        rewriteReversed(data, 10);
+        Files.setLastModifiedTime(data, FileTime.fromMillis(built.toMillis() + 60_000));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> RecordIndex.open(Account.class, data, index));
+    }
+
+    @Test
+    void findView_WithRewriteAfterOpen_ShouldRejectMismatchedKey() throws Exception {
+        // Arrange
+        Path data = writeAccounts(10);
+        Path index = tempDir.resolve("accounts.idx");
+        new RecordIndexBuilder(Account.class, "accountNo").build(data, index);
+
+        try (RecordIndex<Account> recordIndex = RecordIndex.open(Account.class, data, index)) {
+            rewriteReversed(data, 10);
+
+            // Act & Assert
+            assertThrows(IOException.class, () -> recordIndex.findView("3"));
+        }
+    }
+
+    @Test
+    void find_ShouldAlignDecimalKeysOnTheDecimalPoint() throws Exception {
+        // Arrange
+        Path data = tempDir.resolve("prices.dat");
+        Files.write(data, ("0012.50A" + "0003.00B" + "-001.25C").getBytes(StandardCharsets.ISO_8859_1));
+        Path index = tempDir.resolve("prices.idx");
+        new RecordIndexBuilder(Price.class, "amount").build(data, index);
+
+        // Act & Assert
+        try (RecordIndex<Price> recordIndex = RecordIndex.open(Price.class, data, index)) {
+            assertEquals("A", recordIndex.find("12.5").tag);
+            assertEquals("B", recordIndex.find("3").tag);
+            assertEquals("C", recordIndex.find("-1.25").tag);
+            assertNull(recordIndex.find("12.05"));
+            assertThrows(IllegalArgumentException.class, () -> recordIndex.find("1.255"));
+        }
+
+        // Arrange: keys with a trailing separate sign
+        Path trailing = tempDir.resolve("trailing.dat");
+        Files.write(trailing, ("012.50+A" + "003.00-B").getBytes(StandardCharsets.ISO_8859_1));
+        Path trailingIndex = tempDir.resolve("trailing.idx");
+        new RecordIndexBuilder(Price.class, "amount").build(trailing, trailingIndex);
+
+        // Act & Assert
+        try (RecordIndex<Price> recordIndex = RecordIndex.open(Price.class, trailing, trailingIndex)) {
+            assertEquals("A", recordIndex.find("12.5").tag);
+            assertEquals("A", recordIndex.find("+12.5").tag);
+            assertEquals("A", recordIndex.find("12.50+").tag);
+            assertEquals("B", recordIndex.find("-3").tag);
+            assertEquals("B", recordIndex.find("-3.00").tag);
+            assertEquals("B", recordIndex.find("3.00-").tag);
+            assertNull(recordIndex.find("3"));
+            assertThrows(IllegalArgumentException.class, () -> recordIndex.find("1234.5"));
+        }
+    }
+
+    private void rewriteReversed(Path data, int count) throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = count - 1; i >= 0; i--) {
+            content.append(CobolFieldInitializer.write(account(i)));
+        }
+        Files.write(data, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private Path writeAccounts(int count) throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append(CobolFieldInitializer.write(account(i)));
+        }
+        Path data = tempDir.resolve("accounts.dat");
+        Files.write(data, content.toString().getBytes(StandardCharsets.ISO_8859_1));
+        return data;
+    }
+
+    private static Account account(int number) {
+        Account account = new Account();
+        account.accountNo = String.valueOf(number);
+        account.holder = new Account.Holder();
+        account.holder.name = "Holder " + number;
+        account.holder.city = "Town " + (number % 3);
+        return account;
+    }
+
+    // Test classes for the tests
+    static class Price {
+        @CobolField(type = CobolFieldType.DECIMAL, length = 7, scale = 2)
+        private String amount;
+
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 1)
+        private String tag;
+    }
+
+    static class Account {
+        static final int LENGTH = 38;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 8)
+        private String accountNo;
+
+        @CobolNestedObject
+        private Holder holder;
+
+        static class Holder {
+            @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 20)
+            private String name;
+
+            @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 10)
+            private String city;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.enums.CobolFieldType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DelimitedRecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void stream_ShouldDecodeNewlineDelimitedRecords() throws Exception {
+        // Arrange: mixed LF and CRLF, no newline after the last record
+        Path file = tempDir.resolve("lines.txt");
+        Files.write(file, "A1  00001\nB2  00002\r\nC3  00003".getBytes(StandardCharsets.ISO_8859_1));
+
+        // Act
+        List<Item> items;
+        try (Stream<Item> stream = new DelimitedRecordReader(file).stream(Item.class)) {
+            items = stream.collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(3, items.size());
+        assertEquals("00002", items.get(1).quantity);
+        assertEquals("C3  ", items.get(2).code);
+    }
+
+    @Test
+    void views_ShouldFrameLongLinesThroughSmallBuffersAndReadahead() {
+        // Arrange: lines longer than both the reader buffer and the readahead blocks
+        StringBuilder content = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String line = String.format("K%03d%05d", i, i * 7) + "-padding-to-make-the-line-long";
+            expected.add(String.format("%05d", i * 7));
+            content.append(line).append('\n');
+        }
+        ReadaheadChannel channel = new ReadaheadChannel(
+            Channels.newChannel(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.ISO_8859_1))),
+            7, 2);
+        DelimitedRecordReader reader = new DelimitedRecordReader(channel, (byte) '\n', 4);
+
+        // Act
+        List<String> quantities;
+        try (Stream<String> stream = reader.views(RecordLayout.of(Item.class)).map(v -> v.getString("quantity"))) {
+            quantities = stream.collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(expected, quantities);
+    }
+
+    @Test
+    void next_WithCustomDelimiter_ShouldKeepCarriageReturns() throws Exception {
+        // Arrange
+        DelimitedRecordReader reader = new DelimitedRecordReader(
+            Channels.newChannel(new ByteArrayInputStream("ab\r|cd||".getBytes(StandardCharsets.ISO_8859_1))),
+            (byte) '|', 64);
+
+        // Act
+        List<Integer> lengths = new ArrayList<>();
+        while (reader.next()) {
+            lengths.add(reader.getLength());
+        }
+
+        // Assert
+        assertEquals(Arrays.asList(3, 2, 0), lengths);
+    }
+
+    // Test class for the tests
+    static class Item {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 4)
+        private String code;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 5)
+        private String quantity;
+    }
+}
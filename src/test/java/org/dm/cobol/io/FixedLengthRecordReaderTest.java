@@ -0,0 +1,80 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedLengthRecordReaderTest {
+
+    @Test
+    void stream_ShouldDecodeRecordsAcrossBufferRefills() {
+        // Arrange: a buffer smaller than two records forces compaction on every refill
+        FixedLengthRecordReader reader = new FixedLengthRecordReader(channel(
+            "A1  00001B2  00002C3  00003D4  00004"), 9, 10);
+
+        // Act
+        List<Item> items = reader.stream(Item.class).collect(Collectors.toList());
+
+        // Assert
+        assertEquals(4, items.size());
+        assertEquals("C3  ", items.get(2).code);
+        assertEquals("00004", items.get(3).quantity);
+    }
+
+    @Test
+    void views_ShouldReadFieldsInPlace() {
+        // Arrange
+        FixedLengthRecordReader reader = new FixedLengthRecordReader(channel("A1  00001B2  00020"), 9, 4096);
+
+        // Act
+        List<String> quantities = reader.views(RecordLayout.of(Item.class))
+            .map(view -> view.getString("quantity"))
+            .collect(Collectors.toList());
+
+        // Assert
+        assertEquals(Arrays.asList("00001", "00020"), quantities);
+    }
+
+    @Test
+    void next_WithTruncatedRecord_ShouldThrowException() throws Exception {
+        // Arrange
+        FixedLengthRecordReader reader = new FixedLengthRecordReader(channel("A1  00001B2  0"), 9, 4096);
+
+        // Act & Assert
+        assertTrue(reader.next());
+        assertThrows(CobolParseException.class, reader::next);
+    }
+
+    @Test
+    void constructor_WithInvalidRecordLength_ShouldThrowBeforeOpening() {
+        // A missing file shows the length is checked before the file is opened
+        assertThrows(IllegalArgumentException.class, () ->
+            new FixedLengthRecordReader(Paths.get("does-not-exist.dat"), 0));
+    }
+
+        private static ReadableByteChannel channel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    // Test class for the tests
+    static class Item {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 4)
+        private String code;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 5)
+        private String quantity;
+    }
+}
@@ -0,0 +1,73 @@
+package org.dm.cobol.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadaheadChannelTest {
+
+    @Test
+    void read_ShouldDeliverSourceBytesAcrossBlocks() throws Exception {
+        // Arrange
+        String content = "0123456789abcdefghijklmnopqrstuvwxyz";
+        ReadaheadChannel channel = new ReadaheadChannel(
+            Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1))), 5, 2);
+
+        // Act
+        StringBuilder read = new StringBuilder();
+        ByteBuffer buffer = ByteBuffer.allocate(7);
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            read.append(StandardCharsets.ISO_8859_1.decode(buffer));
+            buffer.clear();
+        }
+        channel.close();
+
+        // Assert
+        assertEquals(content, read.toString());
+    }
+
+    @Test
+    void read_WithRuntimeFailureInSource_ShouldThrowInsteadOfBlocking() {
+        // Arrange
+        ReadableByteChannel failing = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) {
+                throw new IllegalStateException("Source broke");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        ReadaheadChannel channel = new ReadaheadChannel(failing, 16, 2);
+
+        // Act & Assert
+        IOException failure = assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> assertThrows(IOException.class, () -> channel.read(ByteBuffer.allocate(8))));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void constructor_WithEmptyBlocks_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(new byte[8]));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadaheadChannel(source, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ReadaheadChannel(source, -1, 2));
+    }
+}
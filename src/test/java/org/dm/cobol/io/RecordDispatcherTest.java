@@ -0,0 +1,127 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.core.RecordLayout;
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordDispatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void stream_ShouldDecodeEachRecordIntoItsType() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("mixed.dat");
+        Files.write(file, ("HDR20240131    " +
+                           "DTLP00012345   " +
+                           "DTLR00000500   " +
+                           "TRL000002      ").getBytes(StandardCharsets.ISO_8859_1));
+
+        // Act
+        List<Object> records;
+        try (Stream<Object> stream = newDispatcher().stream(new FixedLengthRecordReader(file, 15))) {
+            records = stream.collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(4, records.size());
+        assertEquals("20240131", ((Header) records.get(0)).date);
+        assertEquals("00012345", ((Payment) records.get(1)).amount);
+        assertEquals("00000500", ((Refund) records.get(2)).amount);
+        assertEquals("000002", ((Trailer) records.get(3)).count);
+    }
+
+    @Test
+    void dispatch_ShouldResolveLayoutWithoutDecoding() throws Exception {
+        // Arrange
+        RecordDispatcher dispatcher = newDispatcher();
+        ByteBuffer buffer = ByteBuffer.wrap("xxDTLR00000500   ".getBytes(StandardCharsets.ISO_8859_1));
+
+        // Act
+        RecordLayout layout = dispatcher.dispatch(buffer, 2, 15);
+
+        // Assert
+        assertSame(RecordLayout.of(Refund.class), layout);
+    }
+
+    @Test
+    void dispatch_WithUnknownType_ShouldUseDefaultOrThrow() throws Exception {
+        // Arrange
+        RecordDispatcher dispatcher = newDispatcher();
+        ByteBuffer unknownType = ByteBuffer.wrap("XYZ000000      ".getBytes(StandardCharsets.ISO_8859_1));
+        ByteBuffer unknownSubtype = ByteBuffer.wrap("DTLQ00000500   ".getBytes(StandardCharsets.ISO_8859_1));
+
+        // Act & Assert
+        assertThrows(CobolParseException.class, () -> dispatcher.dispatch(unknownType, 0, 15));
+        assertThrows(CobolParseException.class, () -> dispatcher.dispatch(unknownSubtype, 0, 15));
+
+        dispatcher.setDefault(Trailer.class);
+        assertSame(RecordLayout.of(Trailer.class), dispatcher.dispatch(unknownType, 0, 15));
+    }
+
+    @Test
+    void register_WithDuplicateOrOversizedValue_ShouldThrowException() {
+        RecordDispatcher dispatcher = newDispatcher();
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.register("HDR", Trailer.class));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.register("HEAD", Trailer.class));
+    }
+
+    private static RecordDispatcher newDispatcher() {
+        RecordDispatcher details = new RecordDispatcher(3, 1);
+        details.register("P", Payment.class);
+        details.register("R", Refund.class);
+
+        RecordDispatcher dispatcher = new RecordDispatcher(Header.class, "type");
+        dispatcher.register("HDR", Header.class);
+        dispatcher.register("DTL", details);
+        dispatcher.register("TRL", Trailer.class);
+        return dispatcher;
+    }
+
+    // Test classes for the tests
+    static class Header {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 3)
+        private String type;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 8)
+        private String date;
+    }
+
+    static class Payment {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 4)
+        private String type;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 8)
+        private String amount;
+    }
+
+    static class Refund {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 4)
+        private String type;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 8)
+        private String amount;
+    }
+
+    static class Trailer {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 3)
+        private String type;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 6)
+        private String count;
+    }
+}
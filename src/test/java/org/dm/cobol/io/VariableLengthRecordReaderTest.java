@@ -0,0 +1,111 @@
+package org.dm.cobol.io;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariableLengthRecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void stream_ShouldFrameRecordsByRdw() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("variable.dat");
+        Files.write(file, concat(rdw("A1  00001"), rdw("B2  00002 plus extra"), rdw("C3  00003")));
+
+        // Act
+        List<Item> items;
+        try (Stream<Item> stream = new VariableLengthRecordReader(file, false).stream(Item.class)) {
+            items = stream.collect(Collectors.toList());
+        }
+
+        // Assert
+        assertEquals(3, items.size());
+        assertEquals("B2  ", items.get(1).code);
+        assertEquals("00003", items.get(2).quantity);
+    }
+
+    @Test
+    void next_ShouldFrameBlockedRecordsAcrossBufferRefills() throws Exception {
+        // Arrange: two blocks, the second with an extended BDW
+        byte[] first = concat(rdw("A1  00001"), rdw("B2  00002"));
+        byte[] second = rdw("C3  00003");
+        byte[] file = concat(
+            new byte[] {0, (byte) (first.length + 4), 0, 0}, first,
+            new byte[] {(byte) 0x80, 0, 0, (byte) (second.length + 4)}, second);
+        VariableLengthRecordReader reader = new VariableLengthRecordReader(
+            Channels.newChannel(new ByteArrayInputStream(file)), true, 8);
+
+        // Act & Assert
+        StringBuilder records = new StringBuilder();
+        while (reader.next()) {
+            records.append(new String(reader.getBuffer().array(), reader.getPosition(), reader.getLength(),
+                StandardCharsets.ISO_8859_1)).append('|');
+        }
+        assertEquals("A1  00001|B2  00002|C3  00003|", records.toString());
+    }
+
+    @Test
+    void next_WithRecordOverrunningBlock_ShouldThrowException() throws Exception {
+        // Arrange
+        byte[] record = rdw("A1  00001");
+        byte[] file = concat(new byte[] {0, 8, 0, 0}, record);
+        VariableLengthRecordReader reader = new VariableLengthRecordReader(
+            Channels.newChannel(new ByteArrayInputStream(file)), true, 64);
+
+        // Act & Assert
+        assertThrows(CobolParseException.class, reader::next);
+    }
+
+    @Test
+    void next_WithTruncatedRecord_ShouldThrowException() {
+        // Arrange
+        byte[] record = rdw("A1  00001");
+        byte[] truncated = new byte[record.length - 2];
+        System.arraycopy(record, 0, truncated, 0, truncated.length);
+        VariableLengthRecordReader reader = new VariableLengthRecordReader(
+            Channels.newChannel(new ByteArrayInputStream(truncated)), false, 64);
+
+        // Act & Assert
+        assertThrows(CobolParseException.class, reader::next);
+    }
+
+    private static byte[] rdw(String record) {
+        byte[] data = record.getBytes(StandardCharsets.ISO_8859_1);
+        int length = data.length + 4;
+        return concat(new byte[] {(byte) (length >> 8), (byte) length, 0, 0}, data);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+
+    // Test class for the tests
+    static class Item {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 4)
+        private String code;
+
+        @CobolField(type = CobolFieldType.NUMERIC, length = 5)
+        private String quantity;
+    }
+}
@@ -0,0 +1,179 @@
+package org.dm.cobol.reconcile;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.annotation.CobolNestedObject;
+import org.dm.cobol.core.RecordView;
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+import org.dm.cobol.io.DelimitedRecordReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordReconcilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reconcile_ShouldReportAddedDeletedAndChangedFields() throws Exception {
+        // Arrange
+        Path before = write("before.dat",
+            "0001Alice     00100",
+            "0002Bob       00200",
+            "0003Carol     00300",
+            "0005Eve       00500");
+        Path after = write("after.dat",
+            "0001Alice     00100",
+            "0003Caroline  00350",
+            "0004Dave      00400",
+            "0005Eve       00500",
+            "0006Frank     00600");
+        CollectingListener listener = new CollectingListener();
+
+        // Act
+        ReconciliationSummary summary = new RecordReconciler(Account.class, "id").reconcile(before, after, listener);
+
+        // Assert
+        assertEquals(2, summary.getUnchanged());
+        assertEquals(1, summary.getChanged());
+        assertEquals(2, summary.getAdded());
+        assertEquals(1, summary.getDeleted());
+        assertEquals(Arrays.asList("0004", "0006"), listener.added);
+        assertEquals(Arrays.asList("0002"), listener.deleted);
+        assertEquals(Arrays.asList(
+            "0003 detail.name: 'Carol     ' -> 'Caroline  '",
+            "0003 detail.balance: '00300' -> '00350'"), listener.changed);
+    }
+
+    @Test
+    void reconcile_WithRecordLength_ShouldSkipSlotFiller() throws Exception {
+        // Arrange: each record is followed by a line terminator
+        Path before = write("before.dat", "0001Alice     00100\n", "0002Bob       00200\n");
+        Path after = write("after.dat", "0001Alice     00150\n", "0002Bob       00200\n");
+        RecordReconciler reconciler = new RecordReconciler(Account.class, "id");
+        reconciler.setRecordLength(20);
+        CollectingListener listener = new CollectingListener();
+
+        // Act
+        ReconciliationSummary summary = reconciler.reconcile(before, after, listener);
+
+        // Assert
+        assertEquals(1, summary.getUnchanged());
+        assertEquals(Arrays.asList("0001 detail.balance: '00100' -> '00150'"), listener.changed);
+        assertThrows(IllegalArgumentException.class, () -> reconciler.setRecordLength(18));
+    }
+
+    @Test
+    void reconcile_WithUnsortedInput_ShouldThrowException() throws Exception {
+        // Arrange
+        Path before = write("before.dat", "0002Bob       00200", "0001Alice     00100");
+        Path after = write("after.dat", "0001Alice     00100");
+
+        // Act & Assert
+        assertThrows(CobolParseException.class, () ->
+            new RecordReconciler(Account.class, "id").reconcile(before, after, new CollectingListener()));
+    }
+
+    @Test
+    void reconcile_WithReportWriter_ShouldWriteReports() throws Exception {
+        // Arrange: delimited inputs go through the reader overload
+        DelimitedRecordReader before = lines("0001Alice     00100", "0002Bob       00200");
+        DelimitedRecordReader after = lines("0001Alicia    00100", "0003Carol     00300");
+        Path added = tempDir.resolve("added.dat");
+        Path deleted = tempDir.resolve("deleted.dat");
+        Path changes = tempDir.resolve("changes.txt");
+
+        // Act
+        try (ReconciliationReportWriter writer = new ReconciliationReportWriter(added, deleted, changes, "id")) {
+            new RecordReconciler(Account.class, "id").reconcile(before, after, writer);
+        }
+
+        // Assert
+        assertEquals("0003Carol     00300", read(added));
+        assertEquals("0002Bob       00200", read(deleted));
+        assertEquals("0001|detail.name|Alice     |Alicia    \n", read(changes));
+    }
+
+    @Test
+    void reconcile_WithReportWriter_ShouldEscapeSeparatorsInChanges() throws Exception {
+        // Arrange
+        Path before = write("before.dat", "0001A|B       00100");
+        Path after = write("after.dat", "0001A\nB\\      00100");
+        Path changes = tempDir.resolve("changes.txt");
+
+        // Act
+        try (ReconciliationReportWriter writer = new ReconciliationReportWriter(
+                tempDir.resolve("added.dat"), tempDir.resolve("deleted.dat"), changes, "id")) {
+            new RecordReconciler(Account.class, "id").reconcile(before, after, writer);
+        }
+
+        // Assert
+        assertEquals("0001|detail.name|A\\|B       |A\\nB\\\\      \n", read(changes));
+    }
+
+    private Path write(String name, String... records) throws Exception {
+        Path file = tempDir.resolve(name);
+        Files.write(file, String.join("", records).getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    private static DelimitedRecordReader lines(String... records) {
+        byte[] content = String.join("\n", records).getBytes(StandardCharsets.ISO_8859_1);
+        return new DelimitedRecordReader(Channels.newChannel(new ByteArrayInputStream(content)), (byte) '\n', 64);
+    }
+
+    private static String read(Path file) throws Exception {
+        return new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+    }
+
+    private static class CollectingListener implements ReconciliationListener {
+        private final List<String> added = new ArrayList<>();
+        private final List<String> deleted = new ArrayList<>();
+        private final List<String> changed = new ArrayList<>();
+
+        @Override
+        public void added(RecordView record) {
+            added.add(record.getString("id"));
+        }
+
+        @Override
+        public void deleted(RecordView record) {
+            deleted.add(record.getString("id"));
+        }
+
+        @Override
+        public void changed(RecordView before, RecordView after, List<FieldChange> changes) {
+            for (FieldChange change : changes) {
+                changed.add(after.getString("id") + " " + change);
+            }
+        }
+    }
+
+    // Test class for the tests
+    static class Account {
+        @CobolField(type = CobolFieldType.NUMERIC, length = 4)
+        private String id;
+
+        @CobolNestedObject
+        private Detail detail;
+
+        static class Detail {
+            @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 10)
+            private String name;
+
+            @CobolField(type = CobolFieldType.NUMERIC, length = 5)
+            private String balance;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package org.dm.cobol.sort;
+
+import org.dm.cobol.annotation.CobolField;
+import org.dm.cobol.annotation.CobolNestedObject;
+import org.dm.cobol.core.KeyComparator;
+import org.dm.cobol.enums.CobolFieldType;
+import org.dm.cobol.exception.CobolParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void sort_ShouldOrderByAlphanumericThenNumericKey() throws Exception {
+        // Arrange
+        Path input = writeRecords(
+            "BBB+0000100A",
+            "AAA+0000200B",
+            "BBB-0000300C",
+            "AAA+0000050D");
+        Path output = tempDir.resolve("sorted.dat");
+
+        // Act
+        new RecordSorter(TestRecord.class, "region", "amount").sort(input, output);
+
+        // Assert
+        assertEquals(Arrays.asList(
+            "AAA+0000050D",
+            "AAA+0000200B",
+            "BBB-0000300C",
+            "BBB+0000100A"), readRecords(output, 12));
+    }
+
+    @Test
+    void sort_ShouldOrderSignedOverpunchAndDecimalKeys() throws Exception {
+        // Arrange
+        Path input = writeRecords(
+            "AAA000001}A",
+            "AAA000001{B",
+            "AAA000000JC",
+            "AAA000000AD");
+        Path output = tempDir.resolve("sorted.dat");
+
+        // Act
+        new RecordSorter(LedgerRecord.class, "detail.balance").sort(input, output);
+
+        // Assert: -10, -1, +1, +10
+        List<String> sorted = readRecords(output, 11);
+        assertEquals(Arrays.asList("A", "C", "D", "B"), lastCharacters(sorted));
+    }
+
+    @Test
+    void sort_ShouldOrderSpacePaddedFloatingSigns() throws Exception {
+        // Arrange
+        Path input = writeRecords(
+            "AAA      10A",
+            "AAA     -42B",
+            "AAA      -7C",
+            "AAA       0D");
+        Path output = tempDir.resolve("sorted.dat");
+
+        // Act
+        new RecordSorter(TestRecord.class, "amount").sort(input, output);
+
+        // Assert: -42, -7, 0, 10
+        assertEquals(Arrays.asList("B", "C", "D", "A"), lastCharacters(readRecords(output, 12)));
+    }
+
+    @Test
+    void sort_WithManyChunksAndSmallFanIn_ShouldMergeStably() throws Exception {
+        // Arrange
+        Random random = new Random(42);
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String region = "R" + (char) ('A' + random.nextInt(3)) + "X";
+            records.add(String.format("%s+%07d%c", region, random.nextInt(20), (char) ('a' + i % 26)));
+        }
+        Path input = writeRecords(records.toArray(new String[0]));
+        Path output = tempDir.resolve("sorted.dat");
+
+        RecordSorter sorter = new RecordSorter(TestRecord.class, "region", "amount");
+        sorter.setChunkBytes(12 * 7);
+        sorter.setMergeFanIn(3);
+        sorter.setParallelism(4);
+        sorter.setTempDirectory(tempDir);
+
+        // Act
+        sorter.sort(input, output);
+
+        // Assert
+        List<String> expected = new ArrayList<>(records);
+        expected.sort((a, b) -> a.substring(0, 11).compareTo(b.substring(0, 11)));
+        assertEquals(expected, readRecords(output, 12));
+    }
+
+    @Test
+    void sort_WithPartialRecord_ShouldThrowException() throws Exception {
+        // Arrange
+        Path input = tempDir.resolve("input.dat");
+        Files.write(input, "AAA+0000050DAAA".getBytes(StandardCharsets.ISO_8859_1));
+
+        // Act & Assert
+        assertThrows(CobolParseException.class, () ->
+            new RecordSorter(TestRecord.class, "region").sort(input, tempDir.resolve("sorted.dat")));
+    }
+
+    @Test
+    void constructor_WithUnknownKey_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecordSorter(TestRecord.class, "missing"));
+    }
+
+    @Test
+    void setRecordLength_WithInvalidLength_ShouldThrowException() {
+        // Arrange
+        RecordSorter sorter = new RecordSorter(TestRecord.class, "region");
+        KeyComparator comparator = new KeyComparator(CobolFieldType.ALPHANUMERIC, 0, 3);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sorter.setRecordLength(0));
+        assertThrows(IllegalArgumentException.class, () -> sorter.setRecordLength(11));
+        assertThrows(IllegalArgumentException.class, () -> new RecordSorter(comparator, 0));
+        sorter.setRecordLength(13);
+    }
+
+    private Path writeRecords(String... records) throws Exception {
+        Path input = tempDir.resolve("input.dat");
+        Files.write(input, String.join("", records).getBytes(StandardCharsets.ISO_8859_1));
+        return input;
+    }
+
+    private static List<String> readRecords(Path path, int recordLength) throws Exception {
+        String content = new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1);
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < content.length(); i += recordLength) {
+            records.add(content.substring(i, i + recordLength));
+        }
+        return records;
+    }
+
+    private static List<String> lastCharacters(List<String> records) {
+        List<String> result = new ArrayList<>();
+        for (String record : records) {
+            result.add(record.substring(record.length() - 1));
+        }
+        return result;
+    }
+
+    // Test classes for the tests
+    static class TestRecord {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 3)
+        private String region;
+
+        @CobolField(type = CobolFieldType.SIGNED_NUMERIC, length = 8)
+        private String amount;
+
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 1)
+        private String tag;
+    }
+
+    static class LedgerRecord {
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 3)
+        private String id;
+
+        @CobolNestedObject
+        private Detail detail;
+
+        @CobolField(type = CobolFieldType.ALPHANUMERIC, length = 1)
+        private String tag;
+
+        static class Detail {
+            @CobolField(type = CobolFieldType.SIGNED_NUMERIC, length = 7)
+            private String balance;
+        }
+    }
+}